@@ -24,6 +24,23 @@ repositories {
     mavenCentral()
 }
 
+// JMH 벤치마크 (src/jmh/java) - ./gradlew jmh
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("jmhRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
+}
+
 dependencies {
 
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
@@ -44,10 +61,36 @@ dependencies {
     implementation("com.google.cloud.sql:mysql-socket-factory-connector-j-8:1.25.3")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    // 오프라인 테스트용 인메모리 DB (MySQL 호환 모드)
+    testRuntimeOnly("com.h2database:h2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 예) ./gradlew jmh -Pjmh.include=SearchBenchmark -Pjmh.params=rows=1000,10000
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "JMH 벤치마크 실행 (결과는 build/reports/jmh/results.json)"
+    dependsOn(tasks.named("jmhClasses"))
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    val jmhArgs = mutableListOf("-rf", "json", "-rff")
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+    jmhArgs += resultFile.get().asFile.absolutePath
+    (project.findProperty("jmh.params") as String?)?.let { params ->
+        params.split(";").forEach { jmhArgs += listOf("-p", it) }
+    }
+    (project.findProperty("jmh.include") as String?)?.let { jmhArgs += it }
+    args = jmhArgs
+}
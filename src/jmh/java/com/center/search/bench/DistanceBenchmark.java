@@ -0,0 +1,88 @@
+package com.center.search.bench;
+
+import com.center.search.application.location.CoordinateCalculationServiceImpl;
+import com.center.search.common.MapsApiPath;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.entity.LocationLatitude;
+import com.center.search.domain.entity.LocationLongitude;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoordinateCalculationServiceImpl.calculateDistance - 값 객체 오버로드 vs double 오버로드. 한 번 호출당 시간.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DistanceBenchmark {
+
+    private static final int POINTS = 10_000;
+
+    // 성남시청 부근
+    private static final double ORIGIN_LAT = 37.4200;
+    private static final double ORIGIN_LNG = 127.1265;
+
+    private CoordinateCalculationServiceImpl service;
+    private final LocationLatitude originLat = new LocationLatitude(ORIGIN_LAT);
+    private final LocationLongitude originLng = new LocationLongitude(ORIGIN_LNG);
+
+    private LocationLatitude[] latObjects;
+    private LocationLongitude[] lngObjects;
+    private double[] lats;
+    private double[] lngs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 거리 계산은 외부 API 설정/지오코딩 캐시/HTTP 클라이언트를 쓰지 않는다
+        service = new CoordinateCalculationServiceImpl(new MapsApiPath(), null, null);
+
+        List<Location> locations = SeongnamDataset.generate(POINTS);
+        latObjects = new LocationLatitude[POINTS];
+        lngObjects = new LocationLongitude[POINTS];
+        lats = new double[POINTS];
+        lngs = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            Location loc = locations.get(i);
+            latObjects[i] = loc.getLatitude();
+            lngObjects[i] = loc.getLongitude();
+            lats[i] = loc.getLatitude().getLatitude();
+            lngs[i] = loc.getLongitude().getLongitude();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double valueObjects() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += service.calculateDistance(originLat, originLng, latObjects[i], lngObjects[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double primitives() {
+        double sum = 0;
+        for (int i = 0; i < POINTS; i++) {
+            sum += service.calculateDistance(ORIGIN_LAT, ORIGIN_LNG, lats[i], lngs[i]);
+        }
+        return sum;
+    }
+}
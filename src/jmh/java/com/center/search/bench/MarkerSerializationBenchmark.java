@@ -0,0 +1,56 @@
+package com.center.search.bench;
+
+import com.center.search.application.location.MarkerBinaryCodec;
+import com.center.search.domain.dto.LocationMarkerDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 마커 목록(LocationMarkerDto) 직렬화 - Jackson JSON vs 마커 바이너리 포맷.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MarkerSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<LocationMarkerDto> markers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        markers = SeongnamDataset.generate(rows).stream()
+                .map(LocationMarkerDto::from)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(markers);
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return MarkerBinaryCodec.encode(markers);
+    }
+}
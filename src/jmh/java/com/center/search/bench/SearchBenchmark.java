@@ -0,0 +1,87 @@
+package com.center.search.bench;
+
+import com.center.search.application.location.LocationSearchIndex;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 검색: LocationRepo.searchByKeyword 의 LIKE %검색어% 전체 훑기(같은 조건/정렬을 메모리에서 재현) vs n-gram 색인.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SearchBenchmark {
+
+    private static final int PAGE = 20;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    // 이름 앞부분 / 이름 중간 / 주소(구) / 거의 전부 일치
+    @Param({"정자동", "푸른마을", "분당구", "경로당"})
+    public String keyword;
+
+    private List<Location> locations;
+    private LocationSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        locations = SeongnamDataset.generate(rows);
+        LocationSnapshot snapshot = LocationSnapshot.of(1, locations);
+        index = new LocationSearchIndex(SeongnamDataset.fixedSnapshotService(snapshot));
+        index.onSnapshotReloaded(snapshot);
+    }
+
+    // WHERE (name LIKE %kw% OR address LIKE %kw%) ORDER BY CASE ... END, name - 앞 와일드카드라 B-tree 를 못 타는 경로
+    @Benchmark
+    public List<Location> likeScan() {
+        return locations.stream()
+                .filter(Location::isActivate)
+                .filter(loc -> loc.getLocationName().getLocationName().contains(keyword)
+                        || loc.getLocationAddress().getAddress().contains(keyword))
+                .sorted(Comparator.comparingInt((Location loc) -> likeTier(loc, keyword))
+                        .thenComparing(loc -> loc.getLocationName().getLocationName()))
+                .toList();
+    }
+
+    @Benchmark
+    public SearchPage indexedSearchFirstPage() {
+        return index.search(keyword, null, PAGE);
+    }
+
+    @Benchmark
+    public SearchPage indexedSearchAll() {
+        return index.search(keyword, null, Integer.MAX_VALUE);
+    }
+
+    private static int likeTier(Location loc, String keyword) {
+        String name = loc.getLocationName().getLocationName();
+        if (name.startsWith(keyword)) {
+            return 1;
+        }
+        if (name.contains(keyword)) {
+            return 2;
+        }
+        return 3;
+    }
+}
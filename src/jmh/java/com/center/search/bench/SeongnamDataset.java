@@ -0,0 +1,115 @@
+package com.center.search.bench;
+
+import com.center.search.common.SeongnamArea;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.entity.LocationAddress;
+import com.center.search.domain.entity.LocationLatitude;
+import com.center.search.domain.entity.LocationLongitude;
+import com.center.search.domain.entity.LocationName;
+import com.center.search.domain.entity.LocationNumber;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 성남시 경로당 합성 데이터.
+ * 구/동/도로명은 실제 성남 행정구역을 쓰고, 좌표는 구 중심 부근에 흩뿌린다. 같은 (rows, seed) 면 항상 같은 데이터.
+ */
+public final class SeongnamDataset {
+
+    public static final long DEFAULT_SEED = 20240501L;
+
+    private static final String[] SUJEONG_DONG = {"신흥동", "태평동", "수진동", "단대동", "산성동", "양지동", "복정동", "위례동", "신촌동", "고등동", "시흥동"};
+    private static final String[] JUNGWON_DONG = {"성남동", "중앙동", "금광동", "은행동", "상대원동", "하대원동", "도촌동", "여수동"};
+    private static final String[] BUNDANG_DONG = {"분당동", "수내동", "정자동", "서현동", "이매동", "야탑동", "판교동", "삼평동", "백현동", "금곡동", "구미동", "운중동"};
+
+    private static final String[] SUJEONG_ROAD = {"수정로", "산성대로", "남문로", "희망로", "위례광장로", "복정로"};
+    private static final String[] JUNGWON_ROAD = {"성남대로", "둔촌대로", "광명로", "원터로", "제일로", "금빛로"};
+    private static final String[] BUNDANG_ROAD = {"황새울로", "판교역로", "분당로", "중앙공원로", "돌마로", "야탑로", "정자일로", "구미로"};
+
+    private static final String[] COMPLEX = {"주공", "한신", "현대", "삼성", "한양", "우성", "푸른마을", "느티마을", "까치마을", "청솔마을", "봇들마을"};
+
+    // 구 중심 (위도, 경도)
+    private static final double[][] CENTER = {{37.450, 127.145}, {37.432, 127.170}, {37.380, 127.115}};
+    private static final double JITTER = 0.02;
+
+    private SeongnamDataset() {
+    }
+
+    public static List<Location> generate(int rows) {
+        return generate(rows, DEFAULT_SEED);
+    }
+
+    public static List<Location> generate(int rows, long seed) {
+        Random random = new Random(seed);
+        List<Location> locations = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int area = random.nextInt(SeongnamArea.SEONGNAM_ARR.length);
+            String district = SeongnamArea.SEONGNAM_ARR[area];
+            String dong = pick(random, dongs(area));
+            String road = pick(random, roads(area));
+
+            String name = switch (random.nextInt(3)) {
+                case 0 -> dong + (random.nextInt(9) + 1) + "경로당";
+                case 1 -> pick(random, COMPLEX) + (random.nextInt(20) + 1) + "단지 경로당";
+                default -> dong + " " + pick(random, COMPLEX) + "경로당";
+            };
+            String address = "경기도 성남시 " + district + " " + road + " " + (random.nextInt(400) + 1)
+                    + " (" + dong + ")";
+            String tel = "031-" + (700 + random.nextInt(100)) + "-" + String.format("%04d", random.nextInt(10_000));
+            double lat = CENTER[area][0] + (random.nextDouble() * 2 - 1) * JITTER;
+            double lng = CENTER[area][1] + (random.nextDouble() * 2 - 1) * JITTER;
+
+            Location loc = Location.builder()
+                    .locationNumber(new LocationNumber(tel))
+                    .locationName(new LocationName(name))
+                    .locationAddress(new LocationAddress(address))
+                    .latitude(new LocationLatitude(lat))
+                    .longitude(new LocationLongitude(lng))
+                    .status(Location.STATUS_ACTIVE)
+                    .build();
+            loc.setId((long) i + 1);
+            loc.setDistrict(district);
+            locations.add(loc);
+        }
+        return locations;
+    }
+
+    // 항상 같은 스냅샷을 돌려주는 스냅샷 서비스 (DB 없이 색인/뷰모델 서비스를 만들 때 사용)
+    public static LocationSnapshotService fixedSnapshotService(LocationSnapshot snapshot) {
+        return new LocationSnapshotService() {
+            @Override
+            public LocationSnapshot getSnapshot() {
+                return snapshot;
+            }
+
+            @Override
+            public LocationSnapshot reload() {
+                return snapshot;
+            }
+        };
+    }
+
+    private static String[] dongs(int area) {
+        return switch (area) {
+            case 0 -> SUJEONG_DONG;
+            case 1 -> JUNGWON_DONG;
+            default -> BUNDANG_DONG;
+        };
+    }
+
+    private static String[] roads(int area) {
+        return switch (area) {
+            case 0 -> SUJEONG_ROAD;
+            case 1 -> JUNGWON_ROAD;
+            default -> BUNDANG_ROAD;
+        };
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
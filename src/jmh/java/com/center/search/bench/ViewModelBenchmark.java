@@ -0,0 +1,167 @@
+package com.center.search.bench;
+
+import com.center.search.application.location.LocationServiceImpl;
+import com.center.search.application.viewmodel.CenterLocateVmServiceImpl;
+import com.center.search.application.viewmodel.CenterMainVmServiceImpl;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.LocationQueryService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.view.CenterLocateVM;
+import com.center.search.view.CenterMainVM;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.center.search.common.SeongnamArea.SEONGNAM_ARR;
+
+/**
+ * 메인/위치 선택 화면 뷰모델 만들기. 두 경우 모두 실제 CenterMainVmServiceImpl / CenterLocateVmServiceImpl 을 쓴다.
+ * 기준선: 바뀌기 전처럼 구마다 findAllLocations 로 테이블 전체를 새로 읽어 활성/구 이름으로 거른다.
+ * 스냅샷: 실제 LocationServiceImpl 이 스냅샷의 구별 목록을 돌려준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ViewModelBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private CenterMainVmServiceImpl mainByFullScan;
+    private CenterLocateVmServiceImpl locateByFullScan;
+    private CenterMainVmServiceImpl mainBySnapshot;
+    private CenterLocateVmServiceImpl locateBySnapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Location> locations = SeongnamDataset.generate(rows);
+        LocationSnapshot snapshot = LocationSnapshot.of(1, locations);
+
+        LocationQueryService fullScan = new FullScanLocationQueries(locations);
+        // 조회 메서드는 스냅샷 서비스만 쓰므로 쓰기/중복 검사용 협력 객체는 넘기지 않는다
+        LocationQueryService bySnapshot = new LocationServiceImpl(null, null,
+                SeongnamDataset.fixedSnapshotService(snapshot), null, null, null, null);
+        mainByFullScan = new CenterMainVmServiceImpl(fullScan);
+        locateByFullScan = new CenterLocateVmServiceImpl(fullScan);
+        mainBySnapshot = new CenterMainVmServiceImpl(bySnapshot);
+        locateBySnapshot = new CenterLocateVmServiceImpl(bySnapshot);
+    }
+
+    @Benchmark
+    public Map<String, List<CenterMainVM>> mainFullScan() {
+        return mainByFullScan.getCenterMainVMs();
+    }
+
+    @Benchmark
+    public Map<String, List<CenterMainVM>> mainSnapshot() {
+        return mainBySnapshot.getCenterMainVMs();
+    }
+
+    @Benchmark
+    public Map<String, List<CenterLocateVM>> locateGroupFullScan() {
+        return locateByFullScan.getCenterLocateGroup();
+    }
+
+    @Benchmark
+    public Map<String, List<CenterLocateVM>> locateGroupSnapshot() {
+        return locateBySnapshot.getCenterLocateGroup();
+    }
+
+    /**
+     * 바뀌기 전 조회 경로. findAllLocations 는 그때의 locationRepo.findAll() 처럼 부를 때마다 모든 행을 새 엔티티로 읽고,
+     * 구별 조회는 그 결과를 활성 여부와 주소 문자열로 거른다 - 뷰모델 서비스가 구마다 불러 구 수만큼 테이블 전체를 읽는다.
+     */
+    private static final class FullScanLocationQueries implements LocationQueryService {
+
+        private final List<Location> table;
+
+        FullScanLocationQueries(List<Location> table) {
+            this.table = table;
+        }
+
+        @Override
+        public Optional<Location> findLocationById(Long id) {
+            return findAllLocations().stream()
+                    .filter(loc -> loc.getId().equals(id))
+                    .findFirst();
+        }
+
+        @Override
+        public List<Location> findAllLocations() {
+            List<Location> rows = new ArrayList<>(table.size());
+            for (Location loc : table) {
+                rows.add(copyOf(loc));
+            }
+            return rows;
+        }
+
+        @Override
+        public List<Location> findActiveLocations() {
+            return findAllLocations().stream()
+                    .filter(Location::isActivate)
+                    .toList();
+        }
+
+        @Override
+        public List<Location> findActiveLocationsByDistrict(String district) {
+            return findAllLocations().stream()
+                    .filter(Location::isActivate)
+                    .filter(loc -> loc.getLocationAddress().getAddress().contains(district))
+                    .toList();
+        }
+
+        @Override
+        public Map<String, Integer> countActiveLocationsByDistrict() {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (String district : SEONGNAM_ARR) {
+                counts.put(district, findActiveLocationsByDistrict(district).size());
+            }
+            return counts;
+        }
+
+        @Override
+        public List<Location> findAllByIdInAndStatus(List<Long> ids, int status) {
+            Set<Long> wanted = new HashSet<>(ids);
+            return findAllLocations().stream()
+                    .filter(loc -> wanted.contains(loc.getId()) && loc.getStatus() == status)
+                    .toList();
+        }
+
+        // DB 에서 읽은 것처럼 행마다 새 엔티티
+        private static Location copyOf(Location source) {
+            Location copy = Location.builder()
+                    .locationNumber(source.getLocationNumber())
+                    .locationName(source.getLocationName())
+                    .locationAddress(source.getLocationAddress())
+                    .latitude(source.getLatitude())
+                    .longitude(source.getLongitude())
+                    .status(source.getStatus())
+                    .build();
+            copy.setId(source.getId());
+            copy.setDistrict(source.getDistrict());
+            copy.setAddressHash(source.getAddressHash());
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.center.search.api.controller.geo;
+
+import com.center.search.application.location.ReverseGeocodeCache;
+import com.center.search.domain.dto.GeoRegionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/geo")
+public class RestGeoController {
+
+    private static final Logger log = LoggerFactory.getLogger(RestGeoController.class);
+
+    private final ReverseGeocodeCache reverseGeocodeCache;
+
+    public RestGeoController(ReverseGeocodeCache reverseGeocodeCache) {
+        this.reverseGeocodeCache = reverseGeocodeCache;
+    }
+
+    // 좌표가 속한 구/동 ("지금 보고 있는 곳"). 행정구역이 없는 곳이면 404
+    @GetMapping("/reverse")
+    public ResponseEntity<GeoRegionDto> reverseGeocode(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng) {
+
+        if (lat < -90.0 || lat > 90.0 || lng < -180.0 || lng > 180.0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            GeoRegionDto region = reverseGeocodeCache.lookup(lat, lng);
+            if (region == null) {
+                return ResponseEntity.notFound().build();
+            }
+            // 행정구역 경계는 거의 바뀌지 않으므로 브라우저도 하루 동안 다시 묻지 않게 한다
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                    .body(region);
+        } catch (IllegalStateException e) {
+            log.warn("역지오코딩 실패 lat={} lng={}", lat, lng, e);
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+    }
+}
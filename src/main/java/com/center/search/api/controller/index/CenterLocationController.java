@@ -1,6 +1,7 @@
 package com.center.search.api.controller.index;
 
 import com.center.search.application.location.NaverDirectionsService;
+import com.center.search.application.viewmodel.CenterPickerFragmentCache;
 import com.center.search.domain.dto.RouteResponse;
 import com.center.search.domain.service.CenterDetailVmService;
 import com.center.search.domain.service.CenterLocateService;
@@ -22,7 +23,6 @@ import java.net.URLEncoder;
 import java.io.UnsupportedEncodingException;
 
 import java.util.List;
-import java.util.Map;
 
 @Controller
 @RequestMapping("/center")
@@ -32,15 +32,18 @@ public class CenterLocationController {
     private final CenterLocateService centerLocateService;
     private final NaverDirectionsService naverDirectionsService;
     private final NavigateVmService navigateVmService;
+    private final CenterPickerFragmentCache centerPickerFragmentCache;
 
 
     public CenterLocationController(QuarterVmService quarterVmService, CenterLocateService centerLocateService,
                                     NaverDirectionsService naverDirectionsService,
-                                    NavigateVmService navigateVmService) {
+                                    NavigateVmService navigateVmService,
+                                    CenterPickerFragmentCache centerPickerFragmentCache) {
         this.quarterVmService = quarterVmService;
         this.centerLocateService = centerLocateService;
         this.naverDirectionsService = naverDirectionsService;
         this.navigateVmService = navigateVmService;
+        this.centerPickerFragmentCache = centerPickerFragmentCache;
     }
 
     @GetMapping("/view/quarter/{area}")
@@ -52,8 +55,7 @@ public class CenterLocationController {
 
     @GetMapping("/choose/locate")
     public String viewCenterChooseLocate(Model model){
-        Map<String, List<CenterLocateVM>> vm = centerLocateService.getCenterLocateGroup();
-        model.addAttribute("vm", vm);
+        model.addAttribute("districtPicker", centerPickerFragmentCache.get(CenterPickerFragmentCache.CHOOSE_LOCATE));
         return "center/center-choose-locate";
     }
 
@@ -67,9 +69,8 @@ public class CenterLocationController {
     @GetMapping("/nav/start")
     public String viewCenterNavStart(Model model){
 
-        //지역별로 경로당 보여주기
-        Map<String, List<CenterLocateVM>> vm = centerLocateService.getCenterLocateGroup();
-        model.addAttribute("vm", vm);
+        //지역별로 경로당 보여주기 (버전별로 미리 렌더링된 HTML)
+        model.addAttribute("districtPicker", centerPickerFragmentCache.get(CenterPickerFragmentCache.NAV_START));
 
         return "center/navigation/center-start";
     }
@@ -78,8 +79,7 @@ public class CenterLocationController {
     public String viewCenterNavWaypoints(@RequestParam String start,
                                          @RequestParam String startName,
                                          Model model){
-        Map<String, List<CenterLocateVM>> vm = centerLocateService.getCenterLocateGroup();
-        model.addAttribute("vm", vm);
+        model.addAttribute("districtPicker", centerPickerFragmentCache.get(CenterPickerFragmentCache.NAV_WAYPOINTS));
 
 
         Navigate hidden = navigateVmService.getStartData(start, startName);
@@ -94,8 +94,7 @@ public class CenterLocationController {
                                      @RequestParam(required = false) String waypoints,
                                      @RequestParam(required = false) String waypointNames,
                                      Model model){
-        Map<String, List<CenterLocateVM>> vm = centerLocateService.getCenterLocateGroup();
-        model.addAttribute("vm", vm);
+        model.addAttribute("districtPicker", centerPickerFragmentCache.get(CenterPickerFragmentCache.NAV_GOAL));
 
 
         Navigate hidden = navigateVmService.getStartAndWaypointsData(start, startName, waypoints, waypointNames);
@@ -25,6 +25,7 @@ public class CenterMainController {
 
         Map<String, List<CenterMainVM>> vm = centerMainVmService.getCenterMainVMs();
         model.addAttribute("vm", vm);
+        model.addAttribute("counts", centerMainVmService.getCenterCounts());
         return "center/center-main";
     }
 
@@ -1,6 +1,5 @@
 package com.center.search.api.controller.index;
 
-import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.*;
 import com.center.search.view.*;
 import org.springframework.stereotype.Controller;
@@ -15,10 +14,10 @@ import java.util.Map;
 @Controller
 public class IndexController {
 
-    private LocationService locationService;
+    private LocationSnapshotService locationSnapshotService;
 
-    public IndexController(LocationService locationService) {
-        this.locationService = locationService;
+    public IndexController(LocationSnapshotService locationSnapshotService) {
+        this.locationSnapshotService = locationSnapshotService;
     }
 
     /*확인용*/
@@ -36,11 +35,8 @@ public class IndexController {
     public String index(Model model) {
 
         //model.addAttribute("clientId", mapsApiPath.getNAVER_API_KEY_ID());
-        var result = locationService.findAllLocations().stream()
-                .filter(Location::isActivate)
-                .toList();
-
-        model.addAttribute("locations", result);
+        // 마커는 페이지에 싣지 않고 버전이 박힌 URL 로 따로 받는다 - 렌더 비용이 경로당 수와 무관
+        model.addAttribute("markerVersion", locationSnapshotService.getSnapshot().versionTag());
         return "index";
     }
 
@@ -0,0 +1,82 @@
+package com.center.search.api.controller.location;
+
+import com.center.search.application.location.LocationImportJobs;
+import com.center.search.domain.dto.LocationImportStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/v1/location")
+public class RestImportLocationController {
+
+    private static final Logger log = LoggerFactory.getLogger(RestImportLocationController.class);
+
+    private final LocationImportJobs locationImportJobs;
+
+    public RestImportLocationController(LocationImportJobs locationImportJobs) {
+        this.locationImportJobs = locationImportJobs;
+    }
+
+    // 경로당 목록 CSV 대량 등록 - 공공데이터 파일은 보통 EUC-KR 이므로 charset 으로 지정한다
+    // 등록은 백그라운드에서 진행되고, 202 응답의 Location(작업 id) 으로 진행 상황/결과를 조회한다
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importLocations(@RequestParam("file") MultipartFile file,
+                                             @RequestParam(value = "charset", defaultValue = "UTF-8") String charset) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("CSV 파일이 비어 있습니다.");
+        }
+
+        Path csv = null;
+        try {
+            Charset fileCharset = Charset.forName(charset);
+            // 요청이 끝나면 업로드 파일이 사라지므로 등록이 끝날 때까지 쓸 임시 파일로 옮긴다
+            csv = Files.createTempFile("location-import-", ".csv");
+            file.transferTo(csv);
+            LocationImportStatus status = locationImportJobs.submit(csv, fileCharset);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/location/import/" + status.jobId()))
+                    .body(status);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 charset
+            log.warn("대량 등록 요청 거절 (charset={}): {}", charset, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("대량 등록 요청 처리 실패 ({})", file.getOriginalFilename(), e);
+            deleteQuietly(csv);
+            return ResponseEntity.internalServerError().body("대량 등록 요청 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 대량 등록 진행 상황 - 끝나면 result(성공) 또는 error(헤더 오류 등 실패) 가 채워진다
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<LocationImportStatus> getImportStatus(@PathVariable("jobId") String jobId) {
+        return locationImportJobs.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (Exception ignored) {
+            // 임시 디렉터리라 남아도 OS 가 정리한다
+        }
+    }
+}
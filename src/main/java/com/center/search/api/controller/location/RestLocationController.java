@@ -1,13 +1,32 @@
 package com.center.search.api.controller.location;
 
+import com.center.search.application.location.LocationClusterIndex;
+import com.center.search.application.location.LocationGridIndex;
+import com.center.search.application.location.LocationSuggestIndex;
+import com.center.search.application.location.MarkerBinaryCodec;
+import com.center.search.application.location.MarkerPayloadCache;
 import com.center.search.application.location.SearchService;
+import com.center.search.common.PageCursor;
+import com.center.search.domain.dto.ClusterDto;
 import com.center.search.domain.dto.LocationMarkerDto;
+import com.center.search.domain.dto.MarkerPageDto;
+import com.center.search.domain.dto.LocationSnapshotInfo;
+import com.center.search.domain.dto.NearbyLocationDto;
+import com.center.search.domain.dto.SearchCacheStats;
+import com.center.search.domain.dto.SuggestionDto;
 import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.LocationService;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,42 +34,173 @@ import java.util.Optional;
 @RequestMapping("/api/v1/location")
 public class RestLocationController {
 
+    private static final double MAX_NEARBY_RADIUS = 20_000.0; // 미터
+    private static final int MAX_NEARBY_K = 100;
+    private static final int MAX_MARKER_PAGE = 1000;
+    private static final int MAX_SUGGEST = 20;
+    private static final int MAX_SEARCH_PAGE = 100;
+
     private final LocationService locationService;
     private final SearchService searchService;
+    private final LocationSnapshotService locationSnapshotService;
+    private final LocationGridIndex locationGridIndex;
+    private final LocationClusterIndex locationClusterIndex;
+    private final MarkerPayloadCache markerPayloadCache;
+    private final LocationSuggestIndex locationSuggestIndex;
 
-    public RestLocationController(LocationService locationService, SearchService searchService) {
+    public RestLocationController(LocationService locationService, SearchService searchService,
+                                  LocationSnapshotService locationSnapshotService,
+                                  LocationGridIndex locationGridIndex,
+                                  LocationClusterIndex locationClusterIndex,
+                                  MarkerPayloadCache markerPayloadCache,
+                                  LocationSuggestIndex locationSuggestIndex) {
         this.locationService = locationService;
         this.searchService = searchService;
+        this.locationSnapshotService = locationSnapshotService;
+        this.locationGridIndex = locationGridIndex;
+        this.locationClusterIndex = locationClusterIndex;
+        this.markerPayloadCache = markerPayloadCache;
+        this.locationSuggestIndex = locationSuggestIndex;
     }
 
-    @GetMapping(produces = "application/json")
-    public ResponseEntity<List<LocationMarkerDto>> getAllLocations() {
-        // 가정: locationService.findAllLocations() → List<Location>
-        List<Location> all = locationService.findAllLocations();
-
-        List<LocationMarkerDto> markers = all.stream()
-                .filter(Location::isActivate) // 활성화만 노출
-                .map(loc -> new LocationMarkerDto(
-                        loc.getId(),
-                        // 값 객체에서 실제 값을 꺼내 주세요.
-                        // 접근자 이름은 프로젝트에 맞게 조정 (value(), getValue(), toString 등)
-                        loc.getLocationName().getLocationName(),
-                        loc.getLocationNumber().getLocationNumber(),
-                        loc.getLocationAddress().getAddress(),
-                        loc.getLatitude().getLatitude(),
-                        loc.getLongitude().getLongitude()
-                ))
-                .toList();
-
-        return ResponseEntity.ok(markers);
+    // Accept 에 application/x-center-markers 가 있으면 압축 바이너리, 아니면 JSON
+    // Accept-Encoding 에 gzip 이 있으면 미리 압축해 둔 본문을 그대로 내려준다
+    // v 가 현재 데이터셋 버전과 같으면 내용이 바뀔 일이 없으므로 브라우저/CDN 이 재검증 없이 캐시하게 한다
+    @GetMapping
+    public ResponseEntity<?> getAllLocations(
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        boolean binary = accept != null && accept.contains(MarkerBinaryCodec.MEDIA_TYPE);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // 버전 확인과 본문 생성이 같은 스냅샷을 보도록 한 번만 꺼낸다
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        String variant = (binary ? "bin" : "json") + (gzip ? "-gz" : "");
+        if (webRequest.checkNotModified(snapshot.etag(variant), snapshot.lastModified())) {
+            return null; // 304 - 직렬화 없이 응답
+        }
+
+        byte[] body = markerPayloadCache.get(snapshot).body(binary, gzip);
+        CacheControl cacheControl = snapshot.versionTag().equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(binary
+                        ? MediaType.parseMediaType(MarkerBinaryCodec.MEDIA_TYPE)
+                        : MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // 스냅샷 버전/생성 시각 확인용
+    @GetMapping("/snapshot")
+    public ResponseEntity<LocationSnapshotInfo> getSnapshotInfo() {
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        return ResponseEntity.ok(new LocationSnapshotInfo(snapshot.version(), snapshot.builtAt(), snapshot.size()));
+    }
+
+    // 지도 화면(경계 상자) 안의 마커만 id 순으로, 커서로 다음 페이지
+    @GetMapping("/markers")
+    public ResponseEntity<MarkerPageDto> getMarkersInBounds(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "limit", defaultValue = "200") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+
+        if (!isValidBounds(minLat, minLng, maxLat, maxLng) || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        long afterId;
+        try {
+            afterId = PageCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int pageSize = Math.min(limit, MAX_MARKER_PAGE);
+        // 한 건 더 읽어 다음 페이지가 있는지 확인
+        List<LocationMarkerDto> found = locationGridIndex.findInBounds(minLat, minLng, maxLat, maxLng, afterId, pageSize + 1);
+        if (found.size() <= pageSize) {
+            return ResponseEntity.ok(new MarkerPageDto(found, null));
+        }
+
+        List<LocationMarkerDto> page = found.subList(0, pageSize);
+        String nextCursor = PageCursor.encode(page.get(pageSize - 1).id());
+        return ResponseEntity.ok(new MarkerPageDto(page, nextCursor));
+    }
+
+    // 줌 레벨별 클러스터 - bbox 는 "minLat,minLng,maxLat,maxLng"
+    @GetMapping("/clusters")
+    public ResponseEntity<List<ClusterDto>> getClusters(
+            @RequestParam("zoom") int zoom,
+            @RequestParam("bbox") String bbox) {
+
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        double minLat;
+        double minLng;
+        double maxLat;
+        double maxLng;
+        try {
+            minLat = Double.parseDouble(parts[0].trim());
+            minLng = Double.parseDouble(parts[1].trim());
+            maxLat = Double.parseDouble(parts[2].trim());
+            maxLng = Double.parseDouble(parts[3].trim());
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!isValidBounds(minLat, minLng, maxLat, maxLng)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(locationClusterIndex.findClusters(zoom, minLat, minLng, maxLat, maxLng));
+    }
+
+    // 가까운 경로당 k 곳 (반경 radius 미터 이내, 가까운 순)
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyLocationDto>> getNearbyLocations(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radius", defaultValue = "3000") double radius,
+            @RequestParam(value = "k", defaultValue = "10") int k) {
+
+        if (lat < -90.0 || lat > 90.0 || lng < -180.0 || lng > 180.0 || radius <= 0 || k <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<NearbyLocationDto> nearest = locationGridIndex.findNearest(
+                lat, lng, Math.min(radius, MAX_NEARBY_RADIUS), Math.min(k, MAX_NEARBY_K));
+        return ResponseEntity.ok(nearest);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getLocationById(@PathVariable("id") Long locationId){
+    public ResponseEntity<?> getLocationById(@PathVariable("id") Long locationId, WebRequest webRequest){
+
+        // 모든 쓰기는 스냅샷 버전을 올리므로, 버전이 같으면 DB 조회 없이 304
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.etag("id"), snapshot.lastModified())) {
+            return null;
+        }
 
         Optional<Location> locationOpt = locationService.findLocationById(locationId);
         if(locationOpt.isPresent()){
-            return ResponseEntity.ok(locationOpt.get());
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(locationOpt.get());
         }else{
             return ResponseEntity.notFound().build();
         }
@@ -59,30 +209,108 @@ public class RestLocationController {
 
     // 새로 추가: 검색
     @GetMapping("/search")
-    public ResponseEntity<List<LocationMarkerDto>> searchLocations(
-            @RequestParam(value = "q") String search) {
+    public ResponseEntity<MarkerPageDto> searchLocations(
+            @RequestParam(value = "q") String search,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lng", required = false) Double lng,
+            @RequestParam(value = "radius", defaultValue = "5000") double radius,
+            WebRequest webRequest) {
 
-        if (search == null || search.trim().isEmpty()) {
+        if (search == null || search.trim().isEmpty() || limit <= 0) {
             return ResponseEntity.badRequest().build();
         }
+        // 위치는 lat, lng 둘 다 주거나 둘 다 생략
+        boolean nearUser = lat != null || lng != null;
+        if (nearUser && (lat == null || lng == null || lat < -90.0 || lat > 90.0
+                || lng < -180.0 || lng > 180.0 || radius <= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.etag(nearUser ? "search-geo" : "search"), snapshot.lastModified())) {
+            return null;
+        }
 
         try {
-            List<Location> results = searchService.searchLocations(search);
-
-            List<LocationMarkerDto> markers = results.stream()
-                    .map(loc -> new LocationMarkerDto(
-                            loc.getId(),
-                            loc.getLocationName().getLocationName(),
-                            loc.getLocationNumber().getLocationNumber(),
-                            loc.getLocationAddress().getAddress(),
-                            loc.getLatitude().getLatitude(),
-                            loc.getLongitude().getLongitude()
-                    ))
-                    .toList();
-
-            return ResponseEntity.ok(markers);
+            int pageSize = Math.min(limit, MAX_SEARCH_PAGE);
+            MarkerPageDto page = nearUser
+                    ? searchService.searchLocationsNear(search, lat, lng, Math.min(radius, MAX_NEARBY_RADIUS), cursor, pageSize)
+                    : searchService.searchLocations(search, cursor, pageSize);
+
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(page);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // 검색 결과 캐시 적중/실패/축출 통계
+    @GetMapping("/search/cache")
+    public ResponseEntity<SearchCacheStats> getSearchCacheStats() {
+        return ResponseEntity.ok(searchService.cacheStats());
+    }
+
+    // 자동완성 - 초성("ㅂㄷ")/입력 중인 글자("분다")도 앞부분 일치로 찾는다
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggestLocations(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            WebRequest webRequest) {
+
+        if (query.trim().isEmpty() || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.etag("suggest"), snapshot.lastModified())) {
+            return null;
+        }
+
+        List<SuggestionDto> suggestions = locationSuggestIndex.suggest(query, Math.min(limit, MAX_SUGGEST));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(suggestions);
+    }
+
+    // 위도 [-90, 90], 경도 [-180, 180] 안이고 min <= max 인 상자만 (NaN 은 어떤 비교도 false 라 여기서 걸러진다)
+    private static boolean isValidBounds(double minLat, double minLng, double maxLat, double maxLng) {
+        return inRange(minLat, -90.0, 90.0) && inRange(maxLat, -90.0, 90.0)
+                && inRange(minLng, -180.0, 180.0) && inRange(maxLng, -180.0, 180.0)
+                && minLat <= maxLat && minLng <= maxLng;
+    }
+
+    private static boolean inRange(double value, double min, double max) {
+        return value >= min && value <= max;
+    }
+
+    // "gzip" 또는 "*" 가 q=0 이 아닌 값으로 들어 있는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean disabled = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0*)?")) {
+                    disabled = true;
+                }
+            }
+            if (!disabled) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
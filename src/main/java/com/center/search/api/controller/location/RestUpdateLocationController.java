@@ -1,6 +1,7 @@
 package com.center.search.api.controller.location;
 
 import com.center.search.domain.dto.LocationCreateRequest;
+import com.center.search.domain.dto.LocationPatchRequest;
 import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.LocationService;
 import org.springframework.http.HttpStatus;
@@ -29,6 +30,21 @@ public class RestUpdateLocationController {
         }
     }
 
+    // 부분 수정 (JSON) - 보낸 필드만, 주소가 바뀐 경우에만 좌표 변환
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchLocation(@PathVariable("id") Long locationId, @RequestBody LocationPatchRequest locationPatchRequest){
+
+        try{
+            Location result = locationService.patchLocation(locationId, locationPatchRequest);
+            return ResponseEntity.ok(result);
+        }catch (IllegalArgumentException e){
+            // 없는 id, 형식에 맞지 않는 값
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }catch (Exception e){
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("DB 에러");
+        }
+    }
 
     @PostMapping("/{id}/change/status")
     public ResponseEntity<?> changeStatus(@PathVariable("id") Long locationId){
@@ -0,0 +1,264 @@
+package com.center.search.application.location;
+
+import com.center.search.common.AddressNormalizer;
+import com.center.search.domain.entity.Coordinate;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 성남시 주소 -> 좌표 로컬 사전 (네트워크 없이 지오코딩).
+ *
+ * 원본은 도로명주소 DB(juso) 를 한 건물 한 줄로 줄인 UTF-8 텍스트이며, 좌표는 WGS84 위도/경도로 미리 변환해 둔다.
+ * <pre>
+ * # 도로명|건물본번|건물부번|법정동명|산여부(0/1)|지번본번|지번부번|위도|경도
+ * 황새울로|360|0|서현동|0|263|0|37.3837|127.1213
+ * </pre>
+ * 기동 시 도로명 키와 지번 키를 64비트 해시로 만들어 정렬한 색인 파일(레코드당 16바이트)을 쓰고,
+ * 그 파일을 메모리 매핑해 이진 탐색한다. 원본이 바뀌지 않았으면 색인 파일을 그대로 다시 매핑한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "location.geocode.gazetteer", name = "file")
+public class AddressGazetteer {
+
+    private static final Logger log = LoggerFactory.getLogger(AddressGazetteer.class);
+
+    private static final int MAGIC = 0x47415a31; // "GAZ1"
+    private static final int HEADER_BYTES = 16;  // magic, 레코드 수, 원본 수정 시각
+    private static final int RECORD_BYTES = 16;  // 키 해시(long), 위도(int, 1e-7도), 경도(int, 1e-7도)
+    private static final double E7 = 10_000_000.0;
+
+    // "황새울로 360", "황새울로360번길 12-3", "판교역로 146번길 20"
+    private static final Pattern ROAD = Pattern.compile("(\\S+?(?:로|길))\\s*(\\d+)(?:-(\\d+))?(?=\\s|,|\\(|$)");
+    private static final Pattern ROAD_WITH_SUB = Pattern.compile("(\\S+?로)\\s*(\\d+)\\s*번길\\s*(\\d+)(?:-(\\d+))?");
+    // "서현동 263", "금토동 산 12-1"
+    private static final Pattern LOT = Pattern.compile("(\\S+?(?:동|가|리))\\s+(산\\s*)?(\\d+)(?:-(\\d+))?(?=\\s|,|\\(|$)");
+
+    private final Path source;
+    private final Path indexFile;
+
+    private volatile MappedByteBuffer index;
+    private volatile int count;
+
+    public AddressGazetteer(@Value("${location.geocode.gazetteer.file}") String file,
+                            @Value("${location.geocode.gazetteer.index-file:}") String indexFile) {
+        this.source = Path.of(file);
+        this.indexFile = indexFile.isBlank() ? Path.of(file + ".idx") : Path.of(indexFile);
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            if (!isIndexFresh()) {
+                buildIndex();
+            }
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                count = mapped.getInt(4);
+                index = mapped;
+            }
+            log.info("주소 사전 로드: {}개 키 ({})", count, indexFile);
+        } catch (Exception e) {
+            // 사전이 없어도 서비스는 외부 지오코더로 동작한다
+            log.warn("주소 사전 로드 실패 - 외부 지오코더만 사용합니다: {}", source, e);
+        }
+    }
+
+    /**
+     * 주소의 도로명(또는 지번) 부분이 사전에 있으면 좌표, 없으면 null.
+     */
+    public Coordinate lookup(String address) {
+        MappedByteBuffer current = index;
+        if (current == null) {
+            return null;
+        }
+        for (String key : queryKeys(AddressNormalizer.normalize(address))) {
+            int found = find(current, count, hash(key));
+            if (found >= 0) {
+                int offset = HEADER_BYTES + found * RECORD_BYTES;
+                double lat = current.getInt(offset + 8) / E7;
+                double lng = current.getInt(offset + 12) / E7;
+                return new Coordinate(lng, lat);
+            }
+        }
+        return null;
+    }
+
+    public boolean isLoaded() {
+        return index != null;
+    }
+
+    // 주소 문자열에서 찾을 키 - 도로명 키를 먼저, 그다음 지번 키
+    static List<String> queryKeys(String address) {
+        List<String> keys = new ArrayList<>(2);
+        Matcher sub = ROAD_WITH_SUB.matcher(address);
+        if (sub.find()) {
+            keys.add(roadKey(sub.group(1) + sub.group(2) + "번길", sub.group(3), sub.group(4)));
+        } else {
+            Matcher road = ROAD.matcher(address);
+            if (road.find()) {
+                keys.add(roadKey(road.group(1), road.group(2), road.group(3)));
+            }
+        }
+        Matcher lot = LOT.matcher(address);
+        if (lot.find()) {
+            keys.add(lotKey(lot.group(1), lot.group(2) != null, lot.group(3), lot.group(4)));
+        }
+        return keys;
+    }
+
+    private static String roadKey(String road, String main, String sub) {
+        return "R|" + road + "|" + Integer.parseInt(main) + "|" + (sub == null ? 0 : Integer.parseInt(sub));
+    }
+
+    private static String lotKey(String dong, boolean mountain, String main, String sub) {
+        return "J|" + dong + "|" + (mountain ? 1 : 0) + "|" + Integer.parseInt(main) + "|"
+                + (sub == null ? 0 : Integer.parseInt(sub));
+    }
+
+    private boolean isIndexFresh() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return false;
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            long sourceModified = Files.getLastModifiedTime(source).toMillis();
+            return header.getInt(0) == MAGIC
+                    && header.getLong(8) == sourceModified
+                    && channel.size() == HEADER_BYTES + (long) header.getInt(4) * RECORD_BYTES;
+        }
+    }
+
+    // 원본을 읽어 (해시, 위도, 경도) 를 해시 순으로 정렬해 쓴다. 같은 키가 여러 번 나오면 처음 것
+    private void buildIndex() throws IOException {
+        long started = System.currentTimeMillis();
+        long[] hashes = new long[1024];
+        int[] lats = new int[1024];
+        int[] lngs = new int[1024];
+        int n = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] f = line.split("\\|", -1);
+                if (f.length < 9) {
+                    continue;
+                }
+                try {
+                    int lat = (int) Math.round(Double.parseDouble(f[7]) * E7);
+                    int lng = (int) Math.round(Double.parseDouble(f[8]) * E7);
+                    List<String> keys = new ArrayList<>(2);
+                    if (!f[0].isBlank() && !f[1].isBlank()) {
+                        keys.add(roadKey(f[0].trim(), f[1].trim(), f[2].isBlank() ? null : f[2].trim()));
+                    }
+                    if (!f[3].isBlank() && !f[5].isBlank()) {
+                        keys.add(lotKey(f[3].trim(), "1".equals(f[4].trim()), f[5].trim(),
+                                f[6].isBlank() ? null : f[6].trim()));
+                    }
+                    for (String key : keys) {
+                        if (n == hashes.length) {
+                            hashes = Arrays.copyOf(hashes, n * 2);
+                            lats = Arrays.copyOf(lats, n * 2);
+                            lngs = Arrays.copyOf(lngs, n * 2);
+                        }
+                        hashes[n] = hash(key);
+                        lats[n] = lat;
+                        lngs[n] = lng;
+                        n++;
+                    }
+                } catch (NumberFormatException e) {
+                    // 형식이 깨진 줄은 건너뛴다
+                }
+            }
+        }
+
+        // 해시 순 정렬 (안정 정렬이라 같은 키는 원본 순서가 유지된다)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        long[] sortHashes = hashes;
+        Arrays.sort(order, (a, b) -> Long.compare(sortHashes[a], sortHashes[b]));
+
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        int written = 0;
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(0); // 레코드 수는 마지막에 다시 쓴다
+            out.writeLong(Files.getLastModifiedTime(source).toMillis());
+            long previous = 0;
+            for (int i = 0; i < n; i++) {
+                int at = order[i];
+                if (written > 0 && hashes[at] == previous) {
+                    continue;
+                }
+                out.writeLong(hashes[at]);
+                out.writeInt(lats[at]);
+                out.writeInt(lngs[at]);
+                previous = hashes[at];
+                written++;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, written), 4);
+        }
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("주소 사전 색인 생성: {}개 키, {}ms", written, System.currentTimeMillis() - started);
+    }
+
+    private static int find(MappedByteBuffer buffer, int count, long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = buffer.getLong(HEADER_BYTES + mid * RECORD_BYTES);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 64비트 FNV-1a
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
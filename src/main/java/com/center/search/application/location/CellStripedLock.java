@@ -0,0 +1,61 @@
+package com.center.search.application.location;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 격자 칸 단위 줄무늬(striped) 락.
+ * 같은 칸 근처에 동시에 들어오는 등록 요청만 직렬화하고, 서로 먼 등록은 병렬로 진행된다.
+ * 한 JVM 안에서만 유효하다.
+ */
+@Component
+public class CellStripedLock {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public CellStripedLock() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 좌표 반경이 걸치는 모든 칸의 락을 잡은 채로 action 실행
+    public <T> T runLocked(double lat, double lng, double radiusInMeters, Supplier<T> action) {
+        int[] indexes = Arrays.stream(LocationGridIndex.cellKeysCovering(lat, lng, radiusInMeters))
+                .mapToInt(key -> Math.floorMod(Long.hashCode(key), STRIPES))
+                .distinct()
+                .sorted()
+                .toArray();
+        return runLocked(indexes, action);
+    }
+
+    // 모든 줄무늬 락을 잡은 채로 action 실행 - 여러 칸에 걸친 대량 저장을 한 건씩 등록과 직렬화할 때
+    public <T> T runLockedAll(Supplier<T> action) {
+        int[] indexes = new int[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            indexes[i] = i;
+        }
+        return runLocked(indexes, action);
+    }
+
+    // 교착을 피하려고 줄무늬 번호 오름차순으로 잡는다
+    private <T> T runLocked(int[] sortedIndexes, Supplier<T> action) {
+        int locked = 0;
+        try {
+            for (int index : sortedIndexes) {
+                stripes[index].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[sortedIndexes[i]].unlock();
+            }
+        }
+    }
+}
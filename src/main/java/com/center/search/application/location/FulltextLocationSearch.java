@@ -0,0 +1,138 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.repo.LocationSearchRow;
+import com.center.search.domain.search.LocationSearchStrategy;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(WITH PARSER ngram) 인덱스를 쓰는 검색 전략 - 앱 힙에 색인을 두지 않는다.
+ * MATCH ... AGAINST 로 후보를 인덱스에서 좁힌 뒤 LIKE 로 부분 문자열을 확인해 기존 LIKE 검색과 같은 결과/순위를 낸다.
+ * MySQL 이 아니거나(H2 등) 인덱스를 만들 수 없으면 같은 순위의 LIKE 쿼리로 대신한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "location.search", name = "strategy", havingValue = "fulltext")
+public class FulltextLocationSearch implements LocationSearchStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(FulltextLocationSearch.class);
+
+    private static final String INDEX_NAME = "ft_location_name_address";
+
+    private final LocationRepo locationRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL ngram_token_size - 이보다 짧은 검색어는 FULLTEXT 로 찾을 수 없다
+    @Value("${location.search.fulltext.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    // 기동 후 인덱스가 확인되기 전까지는 LIKE 로 검색
+    private volatile boolean fulltextReady = false;
+
+    public FulltextLocationSearch(LocationRepo locationRepo, JdbcTemplate jdbcTemplate) {
+        this.locationRepo = locationRepo;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ddl-auto 로는 ngram 파서 인덱스를 만들 수 없어 기동 시 없으면 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFulltextIndex() {
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            if (product == null || !product.toLowerCase().contains("mysql")) {
+                log.info("FULLTEXT 검색 미지원 DB({}) - LIKE 검색으로 대신합니다.", product);
+                return;
+            }
+
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'location' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (exists == null || exists == 0) {
+                jdbcTemplate.execute("ALTER TABLE location ADD FULLTEXT INDEX " + INDEX_NAME +
+                        " (location_name, address) WITH PARSER ngram");
+            }
+            fulltextReady = true;
+        } catch (Exception e) {
+            log.warn("FULLTEXT 인덱스 준비 실패 - LIKE 검색으로 대신합니다.", e);
+        }
+    }
+
+    @Override
+    public SearchPage search(String keyword, SearchPosition after, int limit) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.isEmpty() || limit <= 0) {
+            return new SearchPage(new ArrayList<>(), new ArrayList<>());
+        }
+
+        String like = escapeLike(trimmed);
+        int afterTier = after == null ? 0 : after.tier();
+        String afterName = after == null ? "" : after.name();
+        long afterId = after == null ? 0L : after.id();
+
+        List<LocationSearchRow> rows;
+        String phrase = trimmed.replace("\"", "");
+        if (fulltextReady && phrase.codePointCount(0, phrase.length()) >= ngramTokenSize) {
+            rows = locationRepo.searchRankedByFulltext(like, "\"" + phrase + "\"", Location.STATUS_ACTIVE,
+                    afterTier, afterName, afterId, limit);
+        } else {
+            rows = locationRepo.searchRankedByLike(like, Location.STATUS_ACTIVE,
+                    afterTier, afterName, afterId, limit);
+        }
+
+        return toPage(rows);
+    }
+
+    // 반경 안 id 목록이 이미 후보를 좁혀 주므로 FULLTEXT 없이 LIKE 로만 확인한다
+    @Override
+    public SearchPage searchAmong(String keyword, Set<Long> ids) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.isEmpty() || ids.isEmpty()) {
+            return new SearchPage(new ArrayList<>(), new ArrayList<>());
+        }
+        return toPage(locationRepo.searchRankedByLikeAmong(escapeLike(trimmed), Location.STATUS_ACTIVE, ids));
+    }
+
+    // 순위 쿼리는 id 만 돌려주므로 엔티티는 기본키로 한 번에 읽어 순서를 맞춘다
+    private SearchPage toPage(List<LocationSearchRow> rows) {
+        Map<Long, Location> byId = locationRepo.findAllById(rows.stream().map(LocationSearchRow::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Location::getId, Function.identity()));
+
+        List<Location> locations = new ArrayList<>(rows.size());
+        List<SearchPosition> positions = new ArrayList<>(rows.size());
+        for (LocationSearchRow row : rows) {
+            Location loc = byId.get(row.getId());
+            if (loc == null) {
+                continue; // 두 쿼리 사이에 지워진 행
+            }
+            locations.add(loc);
+            positions.add(new SearchPosition(row.getTier(), row.getName(), row.getId()));
+        }
+        return new SearchPage(locations, positions);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
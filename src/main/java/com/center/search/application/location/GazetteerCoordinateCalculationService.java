@@ -0,0 +1,56 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Coordinate;
+import com.center.search.domain.entity.LocationLatitude;
+import com.center.search.domain.entity.LocationLongitude;
+import com.center.search.domain.service.CoordinateCalculationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로컬 주소 사전을 먼저 보는 CoordinateCalculationService.
+ * location.geocode.gazetteer.file 이 설정된 경우에만 등록되며(@Primary), 사전에 없는 주소만 NAVER 지오코더(캐시 포함)로 넘긴다.
+ * 거리 계산은 기본 구현과 같다.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "location.geocode.gazetteer", name = "file")
+public class GazetteerCoordinateCalculationService implements CoordinateCalculationService {
+
+    private final AddressGazetteer addressGazetteer;
+    private final CoordinateCalculationServiceImpl naverGeocoder;
+
+    public GazetteerCoordinateCalculationService(AddressGazetteer addressGazetteer,
+                                                 CoordinateCalculationServiceImpl naverGeocoder) {
+        this.addressGazetteer = addressGazetteer;
+        this.naverGeocoder = naverGeocoder;
+    }
+
+    @Override
+    public double calculateDistance(LocationLatitude lat1, LocationLongitude lon1,
+                                    LocationLatitude lat2, LocationLongitude lon2) {
+        return naverGeocoder.calculateDistance(lat1, lon1, lat2, lon2);
+    }
+
+    @Override
+    public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        return naverGeocoder.calculateDistance(lat1, lon1, lat2, lon2);
+    }
+
+    @Override
+    public boolean isWithinRange(LocationLatitude lat1, LocationLongitude lon1,
+                                 LocationLatitude lat2, LocationLongitude lon2,
+                                 double rangeInMeters) {
+        return naverGeocoder.isWithinRange(lat1, lon1, lat2, lon2, rangeInMeters);
+    }
+
+    @Override
+    public Coordinate convertAddressToCoordinate(String address) {
+        Coordinate local = addressGazetteer.lookup(address);
+        if (local != null) {
+            return local;
+        }
+        return naverGeocoder.convertAddressToCoordinate(address);
+    }
+}
@@ -0,0 +1,88 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.LocationSearchStrategy;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.service.CoordinateCalculationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 사용자 위치를 반영한 검색 순위.
+ * 텍스트 순위(이름 앞부분 > 이름 포함 > 주소 포함)와 반경 안 거리 점수를 가중 합산한다.
+ * 후보는 격자 인덱스로 이미 반경의 경계 상자 안으로 좁혀진 텍스트 결과이고, 좌표는 double 배열로 한 번만 옮겨 둔다.
+ */
+@Service
+public class GeoSearchRanker {
+
+    private final CoordinateCalculationService coordinateCalculationService;
+
+    // 0 이면 텍스트 순위만, 1 이면 거리만
+    @Value("${location.search.geo.distance-weight:0.5}")
+    private double distanceWeight;
+
+    public GeoSearchRanker(CoordinateCalculationService coordinateCalculationService) {
+        this.coordinateCalculationService = coordinateCalculationService;
+    }
+
+    /**
+     * 점수 내림차순(같으면 id 순)으로 앞에서 count 개.
+     * 상자 모서리처럼 radius 보다 먼 후보는 거리 점수 0 으로 텍스트 순위만 반영된다.
+     */
+    public List<Location> rank(SearchPage candidates, double lat, double lng, double radiusInMeters, int count) {
+        List<Location> locations = candidates.locations();
+        int n = locations.size();
+        if (n == 0 || count <= 0) {
+            return new ArrayList<>();
+        }
+
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            Location loc = locations.get(i);
+            lats[i] = loc.getLatitude().getLatitude();
+            lngs[i] = loc.getLongitude().getLongitude();
+            scores[i] = (1.0 - distanceWeight) * textScore(candidates.positions().get(i).tier());
+        }
+
+        for (int i = 0; i < n; i++) {
+            double distance = coordinateCalculationService.calculateDistance(lat, lng, lats[i], lngs[i]);
+            if (distance < radiusInMeters) {
+                scores[i] += distanceWeight * (1.0 - distance / radiusInMeters);
+            }
+        }
+
+        // 가장 뒤에 올 후보가 맨 위에 오는 힙 - count 개만 유지
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(count, 64) + 1,
+                (a, b) -> compare(b, a, scores, locations));
+        for (int i = 0; i < n; i++) {
+            if (heap.size() < count) {
+                heap.add(i);
+            } else if (compare(i, heap.peek(), scores, locations) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        List<Integer> top = new ArrayList<>(heap);
+        top.sort((a, b) -> compare(a, b, scores, locations));
+        return top.stream().map(locations::get).toList();
+    }
+
+    // 점수가 높을수록, 같으면 id 가 작을수록 앞
+    private static int compare(int a, int b, double[] scores, List<Location> locations) {
+        int byScore = Double.compare(scores[b], scores[a]);
+        return byScore != 0 ? byScore : Long.compare(locations.get(a).getId(), locations.get(b).getId());
+    }
+
+    // 순위 1 -> 1.0, 2 -> 0.67, 3 -> 0.33
+    private static double textScore(int tier) {
+        int worst = LocationSearchStrategy.TIER_ADDRESS_CONTAINS;
+        return (double) (worst + 1 - tier) / worst;
+    }
+}
@@ -0,0 +1,162 @@
+package com.center.search.application.location;
+
+import com.center.search.common.AddressNormalizer;
+import com.center.search.domain.entity.Coordinate;
+import com.center.search.domain.entity.GeocodedAddress;
+import com.center.search.domain.repo.GeocodedAddressRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 지오코딩 2단 캐시 - 메모리 LRU(최대 maxEntries 개) 와 geocoded_address 테이블.
+ * 키는 정규화한 주소의 해시라 "경기도 성남시 ..." 와 "성남시 ..." 가 같은 항목을 쓴다.
+ * 같은 주소를 동시에 찾으면 한 요청만 DB/외부 API 를 조회하고 나머지는 그 결과를 기다린다(single-flight).
+ * 실패한 조회는 저장하지 않는다.
+ * 테이블 읽기/쓰기는 호출한 쪽 트랜잭션과 분리된 별도 트랜잭션이라, 테이블 오류(중복 키 등)가 호출한 쪽 쓰기를
+ * rollback-only 로 만들지 않고 저장한 캐시 항목도 호출한 쪽 롤백에 휩쓸리지 않는다.
+ */
+@Component
+public class GeocodeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodeCache.class);
+
+    private final GeocodedAddressRepo geocodedAddressRepo;
+    private final TransactionTemplate separateTransaction;
+    private final int maxEntries;
+    // 0 이하면 만료 없음. 지난 항목은 외부 API 로 다시 받아 덮어쓴다
+    private final Duration ttl;
+
+    private final LinkedHashMap<String, Coordinate> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<Coordinate>> inFlight = new ConcurrentHashMap<>();
+
+    public GeocodeCache(GeocodedAddressRepo geocodedAddressRepo,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${location.geocode.cache.max-entries:10000}") int maxEntries,
+                        @Value("${location.geocode.cache.ttl-days:365}") long ttlDays) {
+        this.geocodedAddressRepo = geocodedAddressRepo;
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxEntries = maxEntries;
+        this.ttl = ttlDays <= 0 ? null : Duration.ofDays(ttlDays);
+        // 접근 순서 - 가장 오래 안 쓴 항목이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Coordinate> eldest) {
+                return size() > GeocodeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 없으면 geocoder(정규화한 주소) 로 받아 두 단계 모두에 저장한다. geocoder 의 예외는 그대로 던진다.
+     */
+    public Coordinate get(String address, String provider, Function<String, Coordinate> geocoder) {
+        String key = AddressNormalizer.hash(address);
+        Coordinate cached = cachedInMemory(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Coordinate> flight = new CompletableFuture<>();
+        CompletableFuture<Coordinate> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Coordinate coordinate = load(key, AddressNormalizer.normalize(address), provider, geocoder);
+            synchronized (this) {
+                entries.put(key, coordinate);
+            }
+            flight.complete(coordinate);
+            return coordinate;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 외부 API 를 부르지 않고 메모리/테이블에 있는 좌표만 본다. 없거나 만료됐으면 null.
+     * 테이블에서 찾은 좌표는 메모리에도 올려 두므로 이어지는 get 은 바로 끝난다.
+     */
+    public Coordinate peek(String address) {
+        String key = AddressNormalizer.hash(address);
+        Coordinate cached = cachedInMemory(key);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<GeocodedAddress> stored = findStored(key);
+        if (stored.isEmpty() || isExpired(stored.get())) {
+            return null;
+        }
+        Coordinate coordinate = stored.get().toCoordinate();
+        synchronized (this) {
+            entries.put(key, coordinate);
+        }
+        return coordinate;
+    }
+
+    private synchronized Coordinate cachedInMemory(String key) {
+        return entries.get(key);
+    }
+
+    private Coordinate load(String key, String normalized, String provider, Function<String, Coordinate> geocoder) {
+        Optional<GeocodedAddress> stored = findStored(key);
+        if (stored.isPresent() && !isExpired(stored.get())) {
+            return stored.get().toCoordinate();
+        }
+
+        Coordinate coordinate = geocoder.apply(normalized);
+        try {
+            GeocodedAddress entry = new GeocodedAddress(key, normalized, coordinate, provider, Instant.now());
+            separateTransaction.executeWithoutResult(tx -> geocodedAddressRepo.save(entry));
+        } catch (Exception e) {
+            // 저장 실패는 다음 조회 때 외부 API 를 한 번 더 부를 뿐이다
+            log.warn("지오코딩 결과 저장 실패: {}", e.getMessage());
+        }
+        return coordinate;
+    }
+
+    private Optional<GeocodedAddress> findStored(String key) {
+        try {
+            return separateTransaction.execute(tx -> geocodedAddressRepo.findById(key));
+        } catch (Exception e) {
+            log.warn("지오코딩 캐시 테이블 조회 실패, 외부 API 로 대신합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isExpired(GeocodedAddress stored) {
+        return ttl != null && stored.getGeocodedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    // 먼저 시작한 조회의 결과를 기다린다 - 그쪽이 실패하면 같은 예외
+    private static Coordinate await(CompletableFuture<Coordinate> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.center.search.application.location;
+
+import com.center.search.common.AddressNormalizer;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.service.LocationSnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.center.search.common.SeongnamArea.SEONGNAM_ARR;
+
+/**
+ * 파생 컬럼(district, address_hash)이 추가되기 전에 등록된 경로당의 값을 채운다.
+ * 이미 채워진 행은 건드리지 않으므로 매 기동 시 실행해도 비용이 거의 없다.
+ */
+@Component
+public class LocationBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationBackfill.class);
+
+    private final LocationRepo locationRepo;
+    private final LocationSnapshotService locationSnapshotService;
+
+    public LocationBackfill(LocationRepo locationRepo,
+                            LocationSnapshotService locationSnapshotService) {
+        this.locationRepo = locationRepo;
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        for (String district : SEONGNAM_ARR) {
+            updated += locationRepo.assignDistrict(district);
+        }
+
+        List<Location> withoutHash = locationRepo.findAllByAddressHashIsNull();
+        withoutHash.forEach(loc -> loc.setAddressHash(AddressNormalizer.hash(loc.getLocationAddress().getAddress())));
+        locationRepo.saveAll(withoutHash);
+        updated += withoutHash.size();
+
+        if (updated > 0) {
+            log.info("파생 컬럼 채움: {}건", updated);
+            locationSnapshotService.reload();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.ClusterDto;
+import com.center.search.domain.dto.LocationMarkerDto;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줌 레벨별 격자 클러스터.
+ * 각 줌마다 화면상 약 CLUSTER_RADIUS_PX 픽셀 크기의 칸으로 경로당을 묶어 개수/좌표 합만 들고 있으므로,
+ * 한 건이 바뀌면 줌 레벨 수만큼의 칸만 고치면 된다.
+ */
+@Service
+public class LocationClusterIndex implements LocationSnapshotListener {
+
+    // 네이버 지도 줌 범위
+    public static final int MIN_ZOOM = 6;
+    public static final int MAX_ZOOM = 21;
+    private static final double CLUSTER_RADIUS_PX = 60.0;
+    private static final double TILE_SIZE_PX = 256.0;
+
+    private final LocationSnapshotService locationSnapshotService;
+
+    // levels[zoom - MIN_ZOOM] : 칸 -> 클러스터
+    private volatile List<ConcurrentHashMap<Long, Cluster>> levels = emptyLevels();
+
+    public LocationClusterIndex(LocationSnapshotService locationSnapshotService) {
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    public List<ClusterDto> findClusters(int zoom, double minLat, double minLng, double maxLat, double maxLng) {
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+
+        int level = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        ConcurrentHashMap<Long, Cluster> cells = levels.get(level - MIN_ZOOM);
+        double cellDegrees = cellDegrees(level);
+        List<ClusterDto> result = new ArrayList<>();
+        // 범위 밖/NaN 좌표로 칸 번호가 int 끝까지 가면 아래 반복이 끝나지 않으므로 위경도 범위로 자른다
+        if (Double.isNaN(minLat) || Double.isNaN(minLng) || Double.isNaN(maxLat) || Double.isNaN(maxLng)) {
+            return result;
+        }
+        int minRow = cellIndex(clamp(minLat, -90.0, 90.0), cellDegrees);
+        int maxRow = cellIndex(clamp(maxLat, -90.0, 90.0), cellDegrees);
+        int minCol = cellIndex(clamp(minLng, -180.0, 180.0), cellDegrees);
+        int maxCol = cellIndex(clamp(maxLng, -180.0, 180.0), cellDegrees);
+        if (minRow > maxRow || minCol > maxCol) {
+            return result;
+        }
+
+        long cellsInBounds = ((long) maxRow - minRow + 1) * ((long) maxCol - minCol + 1);
+        if (cellsInBounds > cells.size()) {
+            cells.forEach((key, cluster) -> {
+                int row = (int) (key >> 32);
+                int col = (int) (long) key;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    result.add(toDto(cluster, snapshot));
+                }
+            });
+        } else {
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    Cluster cluster = cells.get(cellKey((int) row, (int) col));
+                    if (cluster != null) {
+                        result.add(toDto(cluster, snapshot));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        List<ConcurrentHashMap<Long, Cluster>> rebuilt = emptyLevels();
+        for (Location loc : snapshot.locations()) {
+            apply(rebuilt, loc, 1);
+        }
+        levels = rebuilt;
+    }
+
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        if (previous != null) {
+            apply(levels, previous, -1);
+        }
+        if (current != null) {
+            apply(levels, current, 1);
+        }
+    }
+
+    // 모든 줌 레벨에서 해당 경로당이 속한 칸에 더하거나(sign=1) 뺀다(sign=-1)
+    private static void apply(List<ConcurrentHashMap<Long, Cluster>> target, Location loc, int sign) {
+        double lat = loc.getLatitude().getLatitude();
+        double lng = loc.getLongitude().getLongitude();
+        long id = loc.getId();
+
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            double cellDegrees = cellDegrees(zoom);
+            long key = cellKey(cellIndex(lat, cellDegrees), cellIndex(lng, cellDegrees));
+            target.get(zoom - MIN_ZOOM).compute(key, (k, cluster) -> {
+                Cluster base = cluster == null ? Cluster.EMPTY : cluster;
+                Cluster next = new Cluster(base.count() + sign, base.sumLat() + sign * lat,
+                        base.sumLng() + sign * lng, base.sumId() + sign * id);
+                return next.count() <= 0 ? null : next;
+            });
+        }
+    }
+
+    private static ClusterDto toDto(Cluster cluster, LocationSnapshot snapshot) {
+        LocationMarkerDto marker = null;
+        if (cluster.count() == 1) {
+            // 한 건만 남은 칸은 id 합이 곧 그 경로당 id
+            Location loc = snapshot.byId().get(cluster.sumId());
+            marker = loc == null ? null : LocationMarkerDto.from(loc);
+        }
+        if (marker != null) {
+            return new ClusterDto(marker.lat(), marker.lng(), 1, marker);
+        }
+        return new ClusterDto(cluster.sumLat() / cluster.count(), cluster.sumLng() / cluster.count(),
+                cluster.count(), null);
+    }
+
+    // 줌 레벨에서 CLUSTER_RADIUS_PX 픽셀이 차지하는 경도 폭
+    private static double cellDegrees(int zoom) {
+        return CLUSTER_RADIUS_PX * 360.0 / (TILE_SIZE_PX * Math.pow(2, zoom));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int cellIndex(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private static List<ConcurrentHashMap<Long, Cluster>> emptyLevels() {
+        List<ConcurrentHashMap<Long, Cluster>> empty = new ArrayList<>();
+        for (int zoom = MIN_ZOOM; zoom <= MAX_ZOOM; zoom++) {
+            empty.add(new ConcurrentHashMap<>());
+        }
+        return List.copyOf(empty);
+    }
+
+    private record Cluster(int count, double sumLat, double sumLng, long sumId) {
+        static final Cluster EMPTY = new Cluster(0, 0.0, 0.0, 0L);
+    }
+}
@@ -0,0 +1,293 @@
+package com.center.search.application.location;
+
+import com.center.search.common.HangulJamo;
+import com.center.search.common.SearchText;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 오타 허용 이름 검색용 BK-트리.
+ * 경로당 이름(전체/단어)을 자모로 풀어 넣어 두므로 모음 하나가 틀린 글자("졍자동")도 편집 거리 1 로 잡힌다.
+ * 쓰기가 있으면 바뀐 경로당의 키만 넣고 이전 키에서는 id 를 뺀다. 노드는 빈 채로(묘비) 남겨 트리 모양을 유지하고,
+ * 빈 키가 살아 있는 키보다 많아지면 스냅샷으로 다시 만든다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "location.search.fuzzy", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LocationFuzzyIndex implements LocationSnapshotListener {
+
+    private static final String COMMON_SUFFIX = "경로당";
+
+    // 음절 하나가 자모 2~3 개이므로 짧은 검색어에서 거리를 크게 주면 엉뚱한 이름이 걸린다
+    private static final int MIN_QUERY_JAMO = 4;
+
+    private final LocationSnapshotService locationSnapshotService;
+
+    private volatile Node root;
+
+    // 쓰기 쪽(스냅샷 락 안)에서만 쓰는 (키, id) 개수 - 다시 만들 때를 정한다
+    private int liveKeys;
+    private int deadKeys;
+
+    public LocationFuzzyIndex(LocationSnapshotService locationSnapshotService) {
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    /**
+     * 편집 거리 순(같으면 이름순)으로 최대 limit 개. 거리 한도는 검색어 길이에 따라 1~3.
+     */
+    public List<Location> search(String keyword, int limit) {
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot(); // 첫 호출이면 스냅샷과 함께 트리가 만들어진다
+
+        String query = keyOf(keyword);
+        int maxDistance = maxDistance(query.length());
+        Node current = root;
+        if (current == null || maxDistance == 0 || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // id -> 가장 가까운 거리
+        Map<Long, Integer> best = new HashMap<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(current);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = levenshtein(query, node.key);
+            if (distance <= maxDistance) {
+                for (long id : node.ids) {
+                    best.merge(id, distance, Math::min);
+                }
+            }
+            // 삼각 부등식: 자식 c 의 거리가 [distance - max, distance + max] 밖이면 그 아래는 볼 필요가 없다
+            int childCount = node.childCount;
+            for (int i = 0; i < childCount; i++) {
+                int edge = node.childDistances[i];
+                if (edge >= distance - maxDistance && edge <= distance + maxDistance) {
+                    stack.push(node.children[i]);
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : best.entrySet()) {
+            if (snapshot.byId().containsKey(entry.getKey())) {
+                ranked.add(entry);
+            }
+        }
+        ranked.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue)
+                .thenComparing(e -> snapshot.byId().get(e.getKey()).getLocationName().getLocationName()));
+
+        return ranked.stream()
+                .limit(limit)
+                .map(e -> snapshot.byId().get(e.getKey()))
+                .toList();
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        Node tree = null;
+        int keys = 0;
+        for (Location loc : snapshot.locations()) {
+            for (String key : keysOf(loc)) {
+                tree = insert(tree, key, loc.getId());
+                keys++;
+            }
+        }
+        root = tree;
+        liveKeys = keys;
+        deadKeys = 0;
+    }
+
+    // 읽는 쪽은 락 없이 트리를 훑으므로 노드 배열은 교체하거나, 다 채운 뒤 개수를 늘려 공개한다
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        Node tree = root;
+        if (previous != null && tree != null) {
+            for (String key : keysOf(previous)) {
+                Node node = find(tree, key);
+                if (node != null && node.removeId(previous.getId())) {
+                    liveKeys--;
+                    deadKeys++;
+                }
+            }
+        }
+        if (current != null) {
+            for (String key : keysOf(current)) {
+                tree = insert(tree, key, current.getId());
+                liveKeys++;
+            }
+            root = tree;
+        }
+        if (deadKeys > 64 && deadKeys > liveKeys) {
+            onSnapshotReloaded(snapshot);
+        }
+    }
+
+    private static Set<String> keysOf(Location loc) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = SearchText.normalize(loc.getLocationName().getLocationName());
+        String compact = name.replaceAll("\\s+", "");
+        keys.add(HangulJamo.decompose(compact));
+        // 대부분 "...경로당" 이므로 앞부분만 친 검색어("졍자1동")도 잡히도록 접미사를 뗀 키도 넣는다
+        if (compact.endsWith(COMMON_SUFFIX) && compact.length() > COMMON_SUFFIX.length()) {
+            String stem = compact.substring(0, compact.length() - COMMON_SUFFIX.length());
+            keys.add(HangulJamo.decompose(stem));
+        }
+        String[] tokens = name.split("\\s+");
+        if (tokens.length > 1) {
+            for (String token : tokens) {
+                if (token.length() >= 2) {
+                    keys.add(HangulJamo.decompose(token));
+                }
+            }
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private static Node insert(Node tree, String key, long id) {
+        if (tree == null) {
+            return new Node(key, id);
+        }
+        Node node = tree;
+        while (true) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                node.addId(id);
+                return tree;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.addChild(distance, new Node(key, id));
+                return tree;
+            }
+            node = child;
+        }
+    }
+
+    // 키가 같은 노드 - 넣을 때와 같은 경로를 따라간다
+    private static Node find(Node tree, String key) {
+        Node node = tree;
+        while (node != null) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.child(distance);
+        }
+        return null;
+    }
+
+    private static String keyOf(String keyword) {
+        return HangulJamo.decompose(SearchText.normalize(keyword).replaceAll("\\s+", ""));
+    }
+
+    // 자모 기준 허용 편집 거리
+    private static int maxDistance(int queryJamo) {
+        if (queryJamo < MIN_QUERY_JAMO) {
+            return 0;
+        }
+        if (queryJamo <= 8) {
+            return 1;
+        }
+        if (queryJamo <= 16) {
+            return 2;
+        }
+        return 3;
+    }
+
+    static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return prev[b.length()];
+    }
+
+    private static final class Node {
+
+        private final String key;
+        private volatile long[] ids;
+        private int[] childDistances = new int[0];
+        private Node[] children = new Node[0];
+        // 자식 배열을 채운 뒤에 늘린다 - 이 값을 읽은 쪽에는 그 앞의 자식이 모두 보인다
+        private volatile int childCount;
+
+        Node(String key, long id) {
+            this.key = key;
+            this.ids = new long[]{id};
+        }
+
+        void addId(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            long[] grown = Arrays.copyOf(ids, ids.length + 1);
+            grown[ids.length] = id;
+            ids = grown;
+        }
+
+        // 지운 뒤에도 노드는 남는다 (빈 ids 는 검색에서 아무것도 내지 않는다)
+        boolean removeId(long id) {
+            long[] current = ids;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == id) {
+                    long[] shrunk = new long[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, current.length - i - 1);
+                    ids = shrunk;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (childDistances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(4, childCount * 2);
+                childDistances = Arrays.copyOf(childDistances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            childDistances[childCount] = distance;
+            children[childCount] = child;
+            childCount++;
+        }
+    }
+}
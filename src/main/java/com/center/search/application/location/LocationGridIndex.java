@@ -0,0 +1,256 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationMarkerDto;
+import com.center.search.domain.dto.NearbyLocationDto;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.CoordinateCalculationService;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 활성 경로당 좌표에 대한 균등 격자 인덱스.
+ * 반경의 경계 상자에 걸치는 칸만 훑고, 상자 안에 든 후보에 대해서만 하버사인 거리를 계산한다.
+ */
+@Service
+public class LocationGridIndex implements LocationSnapshotListener {
+
+    // 격자 한 칸 크기 (도) - 위도 방향 약 1.1km, 성남 부근 경도 방향 약 0.9km
+    private static final double CELL_DEGREES = 0.01;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private final LocationSnapshotService locationSnapshotService;
+    private final CoordinateCalculationService coordinateCalculationService;
+
+    // 칸 -> 칸에 속한 경로당. 칸 배열은 교체만 하고 수정하지 않는다(copy-on-write)
+    private volatile ConcurrentHashMap<Long, Entry[]> cells = new ConcurrentHashMap<>();
+
+    public LocationGridIndex(LocationSnapshotService locationSnapshotService,
+                             CoordinateCalculationService coordinateCalculationService) {
+        this.locationSnapshotService = locationSnapshotService;
+        this.coordinateCalculationService = coordinateCalculationService;
+    }
+
+    public List<NearbyLocationDto> findNearest(double lat, double lng, double radiusInMeters, int k) {
+        locationSnapshotService.getSnapshot(); // 첫 호출이면 스냅샷과 함께 격자가 채워진다
+
+        double dLat = latDegrees(radiusInMeters);
+        double dLng = lngDegrees(radiusInMeters, lat);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+        double minLng = lng - dLng;
+        double maxLng = lng + dLng;
+
+        // 가장 먼 후보가 맨 위에 오는 힙 - k 개만 유지
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Candidate::distance).reversed());
+
+        forEachInBounds(minLat, minLng, maxLat, maxLng, entry -> {
+            double distance = coordinateCalculationService.calculateDistance(lat, lng, entry.lat(), entry.lng());
+            if (distance > radiusInMeters) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new Candidate(entry, distance));
+            } else if (distance < heap.peek().distance()) {
+                heap.poll();
+                heap.add(new Candidate(entry, distance));
+            }
+        });
+
+        List<Candidate> nearest = new ArrayList<>(heap);
+        nearest.sort(Comparator.comparingDouble(Candidate::distance));
+        return nearest.stream()
+                .map(c -> NearbyLocationDto.of(c.entry().marker(), c.distance()))
+                .toList();
+    }
+
+    /**
+     * 경계 상자 안의 경로당을 id 오름차순으로 최대 limit 개 반환한다.
+     * afterId 보다 큰 id 만 대상으로 하므로 마지막 id 를 커서로 넘기면 다음 페이지가 된다.
+     */
+    public List<LocationMarkerDto> findInBounds(double minLat, double minLng, double maxLat, double maxLng,
+                                                long afterId, int limit) {
+        locationSnapshotService.getSnapshot();
+
+        // id 가 가장 큰 후보가 맨 위에 오는 힙 - limit 개만 유지
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingLong(Entry::id).reversed());
+
+        forEachInBounds(minLat, minLng, maxLat, maxLng, entry -> {
+            if (entry.id() <= afterId) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (entry.id() < heap.peek().id()) {
+                heap.poll();
+                heap.add(entry);
+            }
+        });
+
+        List<Entry> page = new ArrayList<>(heap);
+        page.sort(Comparator.comparingLong(Entry::id));
+        return page.stream().map(Entry::marker).toList();
+    }
+
+    // 반경의 경계 상자 안에 있는 경로당 id (거리는 계산하지 않는다)
+    public Set<Long> findIdsNear(double lat, double lng, double radiusInMeters) {
+        locationSnapshotService.getSnapshot();
+
+        double dLat = latDegrees(radiusInMeters);
+        double dLng = lngDegrees(radiusInMeters, lat);
+        Set<Long> ids = new HashSet<>();
+        forEachInBounds(lat - dLat, lng - dLng, lat + dLat, lng + dLng, entry -> ids.add(entry.id()));
+        return ids;
+    }
+
+    // 경계 상자에 걸치는 칸만 훑어 상자 안의 항목에 action 적용
+    private void forEachInBounds(double minLat, double minLng, double maxLat, double maxLng,
+                                 Consumer<Entry> action) {
+        ConcurrentHashMap<Long, Entry[]> current = cells;
+        // 범위 밖/NaN 좌표로 칸 번호가 int 끝까지 가면 아래 반복이 끝나지 않으므로 위경도 범위로 자른다
+        if (Double.isNaN(minLat) || Double.isNaN(minLng) || Double.isNaN(maxLat) || Double.isNaN(maxLng)) {
+            return;
+        }
+        int minRow = cellIndex(clamp(minLat, -90.0, 90.0));
+        int maxRow = cellIndex(clamp(maxLat, -90.0, 90.0));
+        int minCol = cellIndex(clamp(minLng, -180.0, 180.0));
+        int maxCol = cellIndex(clamp(maxLng, -180.0, 180.0));
+        if (minRow > maxRow || minCol > maxCol) {
+            return;
+        }
+
+        long cellsInBounds = ((long) maxRow - minRow + 1) * ((long) maxCol - minCol + 1);
+        if (cellsInBounds > current.size()) {
+            // 상자가 아주 넓으면 비어 있지 않은 칸만 도는 편이 싸다
+            current.forEach((key, entries) -> {
+                int row = (int) (key >> 32);
+                int col = (int) (long) key;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    acceptInBounds(entries, minLat, minLng, maxLat, maxLng, action);
+                }
+            });
+            return;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Entry[] entries = current.get(cellKey((int) row, (int) col));
+                if (entries != null) {
+                    acceptInBounds(entries, minLat, minLng, maxLat, maxLng, action);
+                }
+            }
+        }
+    }
+
+    private static void acceptInBounds(Entry[] entries, double minLat, double minLng, double maxLat, double maxLng,
+                                       Consumer<Entry> action) {
+        for (Entry entry : entries) {
+            if (entry.lat() >= minLat && entry.lat() <= maxLat
+                    && entry.lng() >= minLng && entry.lng() <= maxLng) {
+                action.accept(entry);
+            }
+        }
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        Map<Long, List<Entry>> grouped = new HashMap<>();
+        for (Location loc : snapshot.locations()) {
+            Entry entry = Entry.from(loc);
+            grouped.computeIfAbsent(entry.cellKey(), key -> new ArrayList<>()).add(entry);
+        }
+
+        ConcurrentHashMap<Long, Entry[]> rebuilt = new ConcurrentHashMap<>();
+        grouped.forEach((key, list) -> rebuilt.put(key, list.toArray(Entry[]::new)));
+        cells = rebuilt;
+    }
+
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        if (previous != null) {
+            Entry old = Entry.from(previous);
+            cells.computeIfPresent(old.cellKey(), (key, entries) -> {
+                Entry[] remaining = Arrays.stream(entries)
+                        .filter(e -> e.id() != old.id())
+                        .toArray(Entry[]::new);
+                return remaining.length == 0 ? null : remaining;
+            });
+        }
+        if (current != null) {
+            Entry added = Entry.from(current);
+            cells.merge(added.cellKey(), new Entry[]{added}, (entries, single) -> {
+                Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+                grown[entries.length] = single[0];
+                return grown;
+            });
+        }
+    }
+
+    // 좌표 주변 반경의 경계 상자가 걸치는 칸들 (중복 등록 락 키로도 쓴다)
+    public static long[] cellKeysCovering(double lat, double lng, double radiusInMeters) {
+        double dLat = latDegrees(radiusInMeters);
+        double dLng = lngDegrees(radiusInMeters, lat);
+        int minRow = cellIndex(lat - dLat);
+        int maxRow = cellIndex(lat + dLat);
+        int minCol = cellIndex(lng - dLng);
+        int maxCol = cellIndex(lng + dLng);
+
+        long[] keys = new long[(maxRow - minRow + 1) * (maxCol - minCol + 1)];
+        int i = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                keys[i++] = cellKey(row, col);
+            }
+        }
+        return keys;
+    }
+
+    private static double latDegrees(double meters) {
+        return meters / METERS_PER_DEGREE_LAT;
+    }
+
+    private static double lngDegrees(double meters, double lat) {
+        return meters / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 1e-6));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Entry(long id, double lat, double lng, LocationMarkerDto marker) {
+
+        static Entry from(Location loc) {
+            LocationMarkerDto marker = LocationMarkerDto.from(loc);
+            return new Entry(loc.getId(), marker.lat(), marker.lng(), marker);
+        }
+
+        long cellKey() {
+            return LocationGridIndex.cellKey(cellIndex(lat), cellIndex(lng));
+        }
+    }
+
+    private record Candidate(Entry entry, double distance) {}
+}
@@ -0,0 +1,114 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationImportResult;
+import com.center.search.domain.dto.LocationImportStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * POST /api/v1/location/import 로 받은 CSV 를 백그라운드에서 한 번에 하나씩 등록하고, 작업 id 로 진행 상황을 알려 준다.
+ * 끝난 작업은 최근 KEEP_FINISHED 개만 남긴다. 작업 목록은 메모리에만 있으므로 재기동하면 사라진다.
+ */
+@Component
+public class LocationImportJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationImportJobs.class);
+    private static final int KEEP_FINISHED = 20;
+
+    private final LocationImportService locationImportService;
+    // 대량 등록끼리 외부 호출 수 제한/배치 저장이 겹치지 않도록 한 번에 하나씩
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "location-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 등록 순서 - 가장 오래된 작업이 맨 앞
+    private final LinkedHashMap<String, Job> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > KEEP_FINISHED && eldest.getValue().isFinished();
+        }
+    };
+
+    public LocationImportJobs(LocationImportService locationImportService) {
+        this.locationImportService = locationImportService;
+    }
+
+    /**
+     * csv 파일을 넘겨받아 등록 대기열에 넣고 작업 id 를 돌려준다. 파일은 등록이 끝나면 지운다.
+     */
+    public LocationImportStatus submit(Path csv, Charset charset) {
+        Job job = new Job(UUID.randomUUID().toString());
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+        }
+        runner.execute(() -> run(job, csv, charset));
+        return job.status();
+    }
+
+    public Optional<LocationImportStatus> find(String jobId) {
+        synchronized (jobs) {
+            Job job = jobs.get(jobId);
+            return job == null ? Optional.empty() : Optional.of(job.status());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run(Job job, Path csv, Charset charset) {
+        try (InputStream in = Files.newInputStream(csv)) {
+            job.result = locationImportService.importCsv(in, charset, job.progress);
+            job.progress.phase(LocationImportProgress.Phase.DONE);
+        } catch (Exception e) {
+            log.warn("대량 등록 실패 (작업 {})", job.id, e);
+            job.error = e.getMessage();
+            job.progress.phase(LocationImportProgress.Phase.FAILED);
+        } finally {
+            try {
+                Files.deleteIfExists(csv);
+            } catch (IOException e) {
+                log.warn("대량 등록 임시 파일 삭제 실패: {}", csv, e);
+            }
+        }
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final LocationImportProgress progress = new LocationImportProgress();
+        private volatile LocationImportResult result;
+        private volatile String error;
+
+        private Job(String id) {
+            this.id = id;
+        }
+
+        private boolean isFinished() {
+            LocationImportProgress.Phase phase = progress.phase();
+            return phase == LocationImportProgress.Phase.DONE || phase == LocationImportProgress.Phase.FAILED;
+        }
+
+        private LocationImportStatus status() {
+            return new LocationImportStatus(id, progress.phase().name(), progress.totalRows(),
+                    progress.geocoded(), progress.geocodeTargets(), progress.saved(), progress.saveTargets(),
+                    result, error);
+        }
+    }
+}
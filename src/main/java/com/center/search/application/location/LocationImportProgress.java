@@ -0,0 +1,67 @@
+package com.center.search.application.location;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 등록 한 건의 진행 상황. 등록 스레드(좌표 변환은 여러 스레드)가 쓰고 진행 조회 API 가 읽는다.
+ * CSV 를 묶음 단위로 읽으므로 단계는 묶음마다 READING -> GEOCODING -> SAVING 을 되풀이하고, 대상 건수는 지금까지의 누적이다.
+ */
+public final class LocationImportProgress {
+
+    public enum Phase { QUEUED, READING, GEOCODING, SAVING, DONE, FAILED }
+
+    private volatile Phase phase = Phase.QUEUED;
+    private final AtomicInteger totalRows = new AtomicInteger();
+    private final AtomicInteger geocodeTargets = new AtomicInteger();
+    private final AtomicInteger geocoded = new AtomicInteger();
+    private final AtomicInteger saveTargets = new AtomicInteger();
+    private final AtomicInteger saved = new AtomicInteger();
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public int totalRows() {
+        return totalRows.get();
+    }
+
+    public int geocodeTargets() {
+        return geocodeTargets.get();
+    }
+
+    public int geocoded() {
+        return geocoded.get();
+    }
+
+    public int saveTargets() {
+        return saveTargets.get();
+    }
+
+    public int saved() {
+        return saved.get();
+    }
+
+    void phase(Phase phase) {
+        this.phase = phase;
+    }
+
+    void rowRead() {
+        totalRows.incrementAndGet();
+    }
+
+    void addGeocodeTargets(int count) {
+        geocodeTargets.addAndGet(count);
+    }
+
+    int geocodedOne() {
+        return geocoded.incrementAndGet();
+    }
+
+    void addSaveTargets(int count) {
+        saveTargets.addAndGet(count);
+    }
+
+    void saved(int count) {
+        saved.addAndGet(count);
+    }
+}
@@ -0,0 +1,53 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationImportError;
+import com.center.search.domain.dto.LocationImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 명령줄 대량 등록: --location.import.file=경로당.csv [--location.import.charset=EUC-KR]
+ * 기동이 끝나면 파일을 한 번 등록하고 결과를 로그로 남긴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "location.import", name = "file")
+public class LocationImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationImportRunner.class);
+
+    private final LocationImportService locationImportService;
+
+    @Value("${location.import.file}")
+    private String file;
+
+    @Value("${location.import.charset:UTF-8}")
+    private String charset;
+
+    public LocationImportRunner(LocationImportService locationImportService) {
+        this.locationImportService = locationImportService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (InputStream in = Files.newInputStream(Path.of(file))) {
+            LocationImportResult result = locationImportService.importCsv(in, Charset.forName(charset));
+            log.info("[import] {}: 전체 {}행, 등록 {}, 중복 {}, 실패 {} ({}ms)", file, result.totalRows(),
+                    result.imported(), result.duplicates(), result.failed(), result.elapsedMillis());
+            for (LocationImportError error : result.errors()) {
+                log.info("[import]   {}행: {}", error.line(), error.reason());
+            }
+        } catch (Exception e) {
+            log.error("[import] 대량 등록 실패: {}", file, e);
+        }
+    }
+}
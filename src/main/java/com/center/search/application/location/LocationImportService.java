@@ -0,0 +1,498 @@
+package com.center.search.application.location;
+
+import com.center.search.common.AddressNormalizer;
+import com.center.search.common.SeongnamArea;
+import com.center.search.domain.dto.LocationImportError;
+import com.center.search.domain.dto.LocationImportResult;
+import com.center.search.domain.entity.Coordinate;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.entity.LocationAddress;
+import com.center.search.domain.entity.LocationName;
+import com.center.search.domain.entity.LocationNumber;
+import com.center.search.domain.event.LocationsAddedEvent;
+import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.service.CoordinateCalculationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로당 목록 CSV 대량 등록.
+ * CSV 를 batchSize 행씩 끊어 읽고 한 묶음마다 아래를 끝낸 뒤 다음 묶음을 읽으므로, 메모리에는 파일 크기와 관계없이 한 묶음만 올라간다.
+ * 1) 값 객체로 검증하고 정규화 주소 해시로 묶음 안/이미 저장된 주소 중복을 거른다.
+ * 2) 좌표 변환은 동시 실행 수와 초당 호출 수를 제한해 병렬로 돌린다 (주소 사전/캐시에 있는 주소는 제한 없이 바로).
+ * 3) 좌표 중복(격자 인덱스 + 묶음 안)을 거른 뒤 JDBC 배치로 저장하고 스냅샷/인덱스에 반영한다.
+ * 앞 묶음에서 저장한 행은 이미 DB 와 격자 인덱스에 있으므로 파일 안의 묶음 사이 중복도 같은 검사로 걸린다.
+ * 한 건씩 등록하는 POST /api/v1/location 과 같은 검증/중복 기준을 쓴다.
+ *
+ * 1), 3) 의 중복 검사는 좌표 변환 전에 하는 사전 거르기다. 좌표 변환이 도는 동안 한 건씩 등록이 먼저 저장한
+ * 주소/좌표는 배치마다 모든 칸 락(CellStripedLock) 을 잡고 저장 트랜잭션 안에서 다시 확인해 거른다.
+ * 저장한 배치는 커밋 직후 같은 락 안에서 스냅샷과 격자 인덱스에 들어가므로, 락이 풀린 뒤의 한 건씩 등록은 이 행들과 중복을 검사한다.
+ */
+@Service
+public class LocationImportService {
+
+    // id 는 DB 가 채운다(IDENTITY). Hibernate 를 거치지 않으므로 여러 행을 한 번에 보낼 수 있다
+    private static final String INSERT_SQL = "INSERT INTO location " +
+            "(location_number, location_name, address, latitude, longitude, status, district, address_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int PROGRESS_EVERY = 500;
+    private static final Logger log = LoggerFactory.getLogger(LocationImportService.class);
+
+    private final LocationRepo locationRepo;
+    private final CoordinateCalculationService coordinateCalculationService;
+    private final GeocodeCache geocodeCache;
+    // location.geocode.gazetteer.file 이 없으면 null
+    private final AddressGazetteer addressGazetteer;
+    private final LocationGridIndex locationGridIndex;
+    private final CellStripedLock cellStripedLock;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${location.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${location.import.geocode-concurrency:8}")
+    private int geocodeConcurrency;
+
+    // 0 이하면 제한 없음
+    @Value("${location.import.geocode-rate-per-second:20}")
+    private double geocodeRatePerSecond;
+
+    @Value("${location.duplicate-check.range-in-meters:10.0}")
+    private double duplicateRangeInMeters;
+
+    public LocationImportService(LocationRepo locationRepo,
+                                 CoordinateCalculationService coordinateCalculationService,
+                                 GeocodeCache geocodeCache,
+                                 ObjectProvider<AddressGazetteer> addressGazetteer,
+                                 LocationGridIndex locationGridIndex,
+                                 CellStripedLock cellStripedLock,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.locationRepo = locationRepo;
+        this.coordinateCalculationService = coordinateCalculationService;
+        this.geocodeCache = geocodeCache;
+        this.addressGazetteer = addressGazetteer.getIfAvailable();
+        this.locationGridIndex = locationGridIndex;
+        this.cellStripedLock = cellStripedLock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 첫 줄은 헤더 - 이름(경로당명/시설명/name), 전화번호(연락처/tel), 주소(도로명주소/address) 열이 있어야 한다.
+     * 헤더가 잘못됐으면 IllegalArgumentException. 행 단위 오류는 결과의 errors 에 담고 계속 진행한다.
+     */
+    public LocationImportResult importCsv(InputStream csv, Charset charset) {
+        return importCsv(csv, charset, new LocationImportProgress());
+    }
+
+    /**
+     * progress 에 단계와 처리 건수를 채우며 등록한다. 끝 단계(DONE/FAILED) 는 호출한 쪽이 정한다.
+     */
+    public LocationImportResult importCsv(InputStream csv, Charset charset, LocationImportProgress progress) {
+        long started = System.currentTimeMillis();
+        List<LocationImportError> errors = new ArrayList<>();
+        int[] counts = new int[3]; // total, duplicates, failed
+        int imported = 0;
+
+        RatePacer pacer = new RatePacer(geocodeRatePerSecond);
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, geocodeConcurrency), runnable -> {
+            Thread thread = new Thread(runnable, "location-import-geocode");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, charset))) {
+            long[] line = {0};
+            List<String> header = readRecord(reader, line);
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 가 비어 있습니다.");
+            }
+            Columns columns = Columns.of(header);
+
+            List<Row> chunk;
+            while (!(chunk = readChunk(reader, line, columns, errors, counts, progress)).isEmpty()) {
+                imported += importChunk(chunk, pool, pacer, errors, counts, progress);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("CSV 읽기 실패: " + e.getMessage(), e);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        errors.sort((a, b) -> Long.compare(a.line(), b.line()));
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("[import] 완료: {}행 중 {}건 등록, 중복 {}, 실패 {} ({}ms)", counts[0], imported, counts[1], counts[2], elapsed);
+        return new LocationImportResult(counts[0], imported, counts[1], counts[2], errors, elapsed);
+    }
+
+    // 검증을 통과하고 묶음 안에서 주소가 겹치지 않는 행을 batchSize 개까지 읽는다. 파일 끝이면 빈 목록
+    private List<Row> readChunk(BufferedReader reader, long[] line, Columns columns,
+                                List<LocationImportError> errors, int[] counts,
+                                LocationImportProgress progress) throws IOException {
+        progress.phase(LocationImportProgress.Phase.READING);
+        int size = Math.max(1, batchSize);
+        List<Row> rows = new ArrayList<>(size);
+        Set<String> hashes = new HashSet<>();
+
+        List<String> record;
+        while (rows.size() < size && (record = readRecord(reader, line)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            counts[0]++;
+            progress.rowRead();
+            long lineNo = line[0];
+            try {
+                Row row = Row.of(lineNo, columns, record);
+                if (!hashes.add(row.addressHash())) {
+                    counts[1]++;
+                    errors.add(new LocationImportError(lineNo, "주소 중복"));
+                    continue;
+                }
+                rows.add(row);
+            } catch (IllegalArgumentException e) {
+                counts[2]++;
+                errors.add(new LocationImportError(lineNo, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    // 묶음 하나: 주소 중복 -> 좌표 변환 -> 좌표 중복 -> 저장. 등록한 건수를 돌려준다
+    private int importChunk(List<Row> chunk, ExecutorService pool, RatePacer pacer,
+                            List<LocationImportError> errors, int[] counts, LocationImportProgress progress) {
+        // 이미 저장된 주소는 외부 호출 전에 거른다 - 앞 묶음에서 저장한 행도 DB 에 있으므로 파일 안 중복도 여기서 걸린다
+        Set<String> taken = new HashSet<>(locationRepo.findAddressHashesByStatusAndAddressHashIn(
+                Location.STATUS_ACTIVE, chunk.stream().map(Row::addressHash).toList()));
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (taken.contains(row.addressHash())) {
+                counts[1]++;
+                errors.add(new LocationImportError(row.line(), "주소 중복"));
+            } else {
+                rows.add(row);
+            }
+        }
+
+        progress.addGeocodeTargets(rows.size());
+        progress.phase(LocationImportProgress.Phase.GEOCODING);
+        Coordinate[] coordinates = geocode(rows, pool, pacer, errors, counts, progress);
+
+        // 좌표 중복 - 앞 묶음에서 저장한 행은 이미 격자 인덱스에 있다
+        List<Row> accepted = new ArrayList<>(rows.size());
+        List<Coordinate> acceptedCoordinates = new ArrayList<>(rows.size());
+        Map<Long, List<Coordinate>> acceptedByCell = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Coordinate coordinate = coordinates[i];
+            if (coordinate == null) {
+                continue;
+            }
+            Row row = rows.get(i);
+            if (isDuplicateCoordinate(coordinate, acceptedByCell)) {
+                counts[1]++;
+                errors.add(new LocationImportError(row.line(), "좌표 중복 (" + duplicateRangeInMeters + "m 이내)"));
+                continue;
+            }
+            long cell = LocationGridIndex.cellKeysCovering(coordinate.latitude(), coordinate.longitude(), 0)[0];
+            acceptedByCell.computeIfAbsent(cell, c -> new ArrayList<>()).add(coordinate);
+            accepted.add(row);
+            acceptedCoordinates.add(coordinate);
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        progress.addSaveTargets(accepted.size());
+        progress.phase(LocationImportProgress.Phase.SAVING);
+        return insertBatch(accepted, acceptedCoordinates, errors, counts, progress);
+    }
+
+    // 결과는 rows 와 같은 순서. 실패한 행은 null
+    private Coordinate[] geocode(List<Row> rows, ExecutorService pool, RatePacer pacer,
+                                 List<LocationImportError> errors, int[] counts, LocationImportProgress progress) {
+        Coordinate[] coordinates = new Coordinate[rows.size()];
+        if (rows.isEmpty()) {
+            return coordinates;
+        }
+
+        List<Future<Coordinate>> futures = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            futures.add(pool.submit(() -> {
+                String address = row.address().getAddress();
+                // 주소 사전/캐시에 있는 주소는 외부 호출이 없으므로 호출 수 제한을 받지 않는다
+                Coordinate coordinate = addressGazetteer == null ? null : addressGazetteer.lookup(address);
+                if (coordinate == null) {
+                    coordinate = geocodeCache.peek(address);
+                }
+                if (coordinate == null) {
+                    pacer.acquire();
+                    coordinate = coordinateCalculationService.convertAddressToCoordinate(address);
+                }
+                int n = progress.geocodedOne();
+                if (n % PROGRESS_EVERY == 0) {
+                    log.info("[import] 좌표 변환 {}건 (읽은 행 {})", n, progress.totalRows());
+                }
+                return coordinate;
+            }));
+        }
+
+        try {
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    coordinates[i] = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    counts[2]++;
+                    errors.add(new LocationImportError(rows.get(i).line(), "좌표 변환 실패: " + e.getCause().getMessage()));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("대량 등록 중단", e);
+        }
+        return coordinates;
+    }
+
+    // 기존 활성 경로당(격자 인덱스) 또는 이번 묶음에서 먼저 받아들인 행과 반경 안이면 중복
+    private boolean isDuplicateCoordinate(Coordinate coordinate, Map<Long, List<Coordinate>> acceptedByCell) {
+        double lat = coordinate.latitude();
+        double lng = coordinate.longitude();
+        if (!locationGridIndex.findNearest(lat, lng, duplicateRangeInMeters, 1).isEmpty()) {
+            return true;
+        }
+        for (long cell : LocationGridIndex.cellKeysCovering(lat, lng, duplicateRangeInMeters)) {
+            for (Coordinate other : acceptedByCell.getOrDefault(cell, List.of())) {
+                double distance = coordinateCalculationService.calculateDistance(lat, lng, other.latitude(), other.longitude());
+                if (distance <= duplicateRangeInMeters) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 배치가 실패하면 그 배치의 행만 실패로 남기고 호출한 쪽은 다음 묶음을 계속한다
+    private int insertBatch(List<Row> chunk, List<Coordinate> chunkCoordinates,
+                            List<LocationImportError> errors, int[] counts, LocationImportProgress progress) {
+        // 트랜잭션이 롤백되면 버리도록, 재확인에서 걸린 행은 커밋된 뒤에만 결과에 넣는다
+        List<LocationImportError> lateDuplicates = new ArrayList<>();
+        try {
+            // 한 건씩 등록(createLocation) 은 자기 칸 락 안에서 중복을 확인하고 커밋하므로,
+            // 모든 칸 락을 잡고 재확인 + 저장 + 커밋 + 스냅샷 반영까지 하면 그 사이에 같은 경로당이 끼어들 수 없다
+            int inserted = cellStripedLock.runLockedAll(() -> transactionTemplate.execute(tx -> {
+                lateDuplicates.clear();
+                List<Row> fresh = new ArrayList<>(chunk.size());
+                List<Coordinate> freshCoordinates = new ArrayList<>(chunk.size());
+                Set<String> taken = new HashSet<>(locationRepo.findAddressHashesByStatusAndAddressHashIn(
+                        Location.STATUS_ACTIVE, chunk.stream().map(Row::addressHash).toList()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    Row row = chunk.get(i);
+                    Coordinate coordinate = chunkCoordinates.get(i);
+                    if (taken.contains(row.addressHash())) {
+                        lateDuplicates.add(new LocationImportError(row.line(), "주소 중복 (등록 중 먼저 저장됨)"));
+                    } else if (!locationGridIndex.findNearest(coordinate.latitude(), coordinate.longitude(),
+                            duplicateRangeInMeters, 1).isEmpty()) {
+                        lateDuplicates.add(new LocationImportError(row.line(),
+                                "좌표 중복 (" + duplicateRangeInMeters + "m 이내, 등록 중 먼저 저장됨)"));
+                    } else {
+                        fresh.add(row);
+                        freshCoordinates.add(coordinate);
+                    }
+                }
+                if (!fresh.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, new RowBatchSetter(fresh, freshCoordinates));
+                    // 커밋되면(아직 칸 락 안) 스냅샷과 격자 인덱스에 바로 반영된다
+                    eventPublisher.publishEvent(new LocationsAddedEvent(locationRepo.findAllByStatusAndAddressHashIn(
+                            Location.STATUS_ACTIVE, fresh.stream().map(Row::addressHash).toList())));
+                }
+                return fresh.size();
+            }));
+            counts[1] += lateDuplicates.size();
+            errors.addAll(lateDuplicates);
+            progress.saved(chunk.size());
+            log.info("[import] 저장 {}/{}", progress.saved(), progress.saveTargets());
+            return inserted;
+        } catch (Exception e) {
+            log.warn("[import] 배치 저장 실패 ({}~{}행)", chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), e);
+            counts[2] += chunk.size();
+            for (Row row : chunk) {
+                errors.add(new LocationImportError(row.line(), "저장 실패: " + e.getMessage()));
+            }
+            return 0;
+        }
+    }
+
+    private record RowBatchSetter(List<Row> rows, List<Coordinate> coordinates) implements BatchPreparedStatementSetter {
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Row row = rows.get(i);
+            Coordinate coordinate = coordinates.get(i);
+            ps.setString(1, row.number().getLocationNumber());
+            ps.setString(2, row.name().getLocationName());
+            ps.setString(3, row.address().getAddress());
+            ps.setDouble(4, coordinate.latitude());
+            ps.setDouble(5, coordinate.longitude());
+            ps.setInt(6, Location.STATUS_ACTIVE);
+            ps.setString(7, row.district());
+            ps.setString(8, row.addressHash());
+        }
+
+        @Override
+        public int getBatchSize() {
+            return rows.size();
+        }
+    }
+
+    // 큰따옴표로 감싼 칸(쉼표/줄바꿈/"" 포함) 을 지원하는 CSV 한 레코드. 파일 끝이면 null
+    static List<String> readRecord(BufferedReader reader, long[] lineCounter) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineCounter[0]++;
+        if (lineCounter[0] == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1); // UTF-8 BOM
+        }
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // 따옴표 안의 줄바꿈 - 다음 줄까지 한 칸
+            String next = reader.readLine();
+            if (next == null) {
+                break;
+            }
+            lineCounter[0]++;
+            cell.append('\n');
+            line = next;
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private record Columns(int name, int number, int address) {
+
+        private static final Set<String> NAME = Set.of("경로당명", "시설명", "명칭", "이름", "name", "locationname");
+        private static final Set<String> NUMBER = Set.of("전화번호", "연락처", "tel", "phone", "locationnumber");
+        private static final Set<String> ADDRESS = Set.of("주소", "도로명주소", "소재지도로명주소", "소재지주소", "address", "locationaddress");
+
+        static Columns of(List<String> header) {
+            int name = -1, number = -1, address = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).trim().replace(" ", "").toLowerCase(Locale.ROOT);
+                if (name < 0 && NAME.contains(column)) {
+                    name = i;
+                } else if (number < 0 && NUMBER.contains(column)) {
+                    number = i;
+                } else if (address < 0 && ADDRESS.contains(column)) {
+                    address = i;
+                }
+            }
+            if (name < 0 || number < 0 || address < 0) {
+                throw new IllegalArgumentException("CSV 헤더에 이름/전화번호/주소 열이 필요합니다: " + header);
+            }
+            return new Columns(name, number, address);
+        }
+    }
+
+    private record Row(long line, LocationNumber number, LocationName name, LocationAddress address,
+                       String district, String addressHash) {
+
+        // 값 객체 생성자가 등록 API 와 같은 검증을 한다 (실패하면 IllegalArgumentException)
+        static Row of(long line, Columns columns, List<String> record) {
+            LocationNumber number = LocationNumber.createLocationNumber(cell(record, columns.number()));
+            LocationName name = LocationName.create(cell(record, columns.name()));
+            LocationAddress address = LocationAddress.create(cell(record, columns.address()));
+            return new Row(line, number, name, address,
+                    SeongnamArea.resolveDistrict(address.getAddress()), AddressNormalizer.hash(address.getAddress()));
+        }
+
+        private static String cell(List<String> record, int index) {
+            return index < record.size() ? record.get(index) : null;
+        }
+    }
+
+    /**
+     * 초당 호출 수 제한 - 호출 시각을 1/rate 초 간격으로 배정하고 자기 차례까지 기다린다.
+     */
+    private static final class RatePacer {
+
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        RatePacer(double ratePerSecond) {
+            this.intervalNanos = ratePerSecond <= 0 ? 0 : (long) (1_000_000_000L / ratePerSecond);
+        }
+
+        void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, next);
+                next = slot + intervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.center.search.application.location;
+
+import com.center.search.common.SearchText;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.LocationSearchStrategy;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로당 이름/주소에 대한 메모리 n-gram 역색인.
+ * 1~3글자(코드 포인트) 조각마다 문서 번호(int) 오름차순 배열을 두고, 검색어 조각들의 목록을 교집합한 뒤
+ * 후보에 대해서만 실제 부분 문자열 비교로 확인한다. LIKE %검색어% 와 같은 결과를 테이블 스캔 없이 돌려준다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "location.search", name = "strategy", havingValue = "memory", matchIfMissing = true)
+public class LocationSearchIndex implements LocationSearchStrategy, LocationSnapshotListener {
+
+    private static final int MAX_GRAM = 3;
+
+    private static final Comparator<SearchPosition> POSITION_ORDER = Comparator
+            .comparingInt(SearchPosition::tier)
+            .thenComparing(SearchPosition::name)
+            .thenComparingLong(SearchPosition::id);
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparing(Hit::position, POSITION_ORDER);
+
+    private final LocationSnapshotService locationSnapshotService;
+
+    private volatile Segment segment = Segment.build(List.of());
+
+    public LocationSearchIndex(LocationSnapshotService locationSnapshotService) {
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    // 후보 전체를 정렬하지 않고 limit 크기의 힙만 유지하므로, 한 글자 검색처럼 후보가 많아도 결과 수만큼만 비용이 든다
+    @Override
+    public SearchPage search(String keyword, SearchPosition after, int limit) {
+        locationSnapshotService.getSnapshot(); // 첫 호출이면 스냅샷과 함께 색인이 채워진다
+
+        String query = SearchText.normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return new SearchPage(new ArrayList<>(), new ArrayList<>());
+        }
+
+        Segment current = segment;
+        int[] candidates = current.candidates(query);
+        Doc[] docs = current.docs;
+
+        // 가장 뒤에 올 결과가 맨 위에 오는 힙 - limit 개만 유지
+        PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(limit, 64) + 1, HIT_ORDER.reversed());
+        Set<Long> seen = new HashSet<>();
+        // 수정 직후엔 같은 id 의 이전/새 문서가 잠깐 함께 보일 수 있다 - 번호가 큰(새) 문서를 우선한다
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            Doc doc = docs[candidates[i]];
+            if (doc == null) {
+                continue;
+            }
+            int tier = tierOf(doc, query);
+            if (tier == 0 || !seen.add(doc.id())) {
+                continue;
+            }
+            Hit hit = new Hit(doc, new SearchPosition(tier, doc.location().getLocationName().getLocationName(), doc.id()));
+            if (after != null && POSITION_ORDER.compare(hit.position(), after) <= 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(hit);
+            } else if (HIT_ORDER.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(HIT_ORDER);
+        return toPage(hits);
+    }
+
+    // 검색어 조각 목록의 후보 중 ids 에 든 문서만 순위를 매긴다
+    @Override
+    public SearchPage searchAmong(String keyword, Set<Long> ids) {
+        locationSnapshotService.getSnapshot();
+
+        String query = SearchText.normalize(keyword);
+        if (query.isEmpty() || ids.isEmpty()) {
+            return new SearchPage(new ArrayList<>(), new ArrayList<>());
+        }
+
+        Segment current = segment;
+        int[] candidates = current.candidates(query);
+        Doc[] docs = current.docs;
+
+        List<Hit> hits = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            Doc doc = docs[candidates[i]];
+            if (doc == null || !ids.contains(doc.id())) {
+                continue;
+            }
+            int tier = tierOf(doc, query);
+            if (tier == 0 || !seen.add(doc.id())) {
+                continue;
+            }
+            hits.add(new Hit(doc, new SearchPosition(tier, doc.location().getLocationName().getLocationName(), doc.id())));
+        }
+        hits.sort(HIT_ORDER);
+        return toPage(hits);
+    }
+
+    private static SearchPage toPage(List<Hit> hits) {
+        List<Location> locations = hits.stream()
+                .map(hit -> hit.doc().location())
+                .toList();
+        List<SearchPosition> positions = hits.stream()
+                .map(Hit::position)
+                .toList();
+        return new SearchPage(locations, positions);
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        segment = Segment.build(snapshot.locations());
+    }
+
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        Segment target = segment;
+        if (current != null) {
+            target.upsert(current);
+        } else if (previous != null) {
+            target.remove(previous.getId());
+        }
+        // 삭제 표시만 남은 문서가 살아있는 문서보다 많아지면 새로 만든다
+        if (target.needsCompaction()) {
+            segment = Segment.build(snapshot.locations());
+        }
+    }
+
+    static int tierOf(Doc doc, String query) {
+        if (doc.name().startsWith(query)) {
+            return TIER_NAME_PREFIX;
+        }
+        if (doc.name().contains(query)) {
+            return TIER_NAME_CONTAINS;
+        }
+        if (doc.address().contains(query)) {
+            return TIER_ADDRESS_CONTAINS;
+        }
+        return 0;
+    }
+
+    // 문자열의 1~maxGram 글자 조각 (코드 포인트 단위라 한글/보충 문자도 한 글자로 센다)
+    private static void addGrams(String text, int maxGram, Collection<String> out) {
+        int[] cps = text.codePoints().toArray();
+        for (int n = 1; n <= maxGram; n++) {
+            for (int i = 0; i + n <= cps.length; i++) {
+                out.add(new String(cps, i, n));
+            }
+        }
+    }
+
+    // 정렬된 두 배열의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    // 새 문서 번호는 항상 기존 번호보다 크므로 뒤에 붙이기만 해도 정렬이 유지된다
+    private static int[] append(int[] postings, int[] added) {
+        int[] next = Arrays.copyOf(postings, postings.length + added.length);
+        System.arraycopy(added, 0, next, postings.length, added.length);
+        return next;
+    }
+
+    record Doc(long id, String name, String address, Location location) {
+
+        static Doc of(Location loc) {
+            return new Doc(loc.getId(),
+                    SearchText.normalize(loc.getLocationName().getLocationName()),
+                    SearchText.normalize(loc.getLocationAddress().getAddress()),
+                    loc);
+        }
+    }
+
+    private record Hit(Doc doc, SearchPosition position) {
+    }
+
+    /**
+     * 색인 한 벌. 쓰기(스냅샷 락 안)는 한 번에 하나뿐이고, 읽기는 락 없이 동시에 들어온다.
+     * 문서 배열을 먼저 게시한 뒤 조각 목록에 번호를 붙이므로, 읽는 쪽이 본 번호는 항상 문서 배열 안에 있다.
+     */
+    private static final class Segment {
+
+        private volatile Doc[] docs;
+        private int docCount;
+        private int deadCount;
+        // 조각 -> 문서 번호 오름차순. 배열은 교체만 하고 수정하지 않는다(copy-on-write)
+        private final ConcurrentHashMap<String, int[]> postings = new ConcurrentHashMap<>();
+        // 쓰기 쪽에서만 쓰는 id -> 현재 문서 번호
+        private final Map<Long, Integer> ordinalById = new HashMap<>();
+
+        private Segment(int capacity) {
+            this.docs = new Doc[Math.max(16, capacity)];
+        }
+
+        static Segment build(List<Location> locations) {
+            Segment segment = new Segment(locations.size());
+            Map<String, List<Integer>> grouped = new HashMap<>();
+            Set<String> grams = new LinkedHashSet<>();
+            for (Location loc : locations) {
+                int ordinal = segment.docCount++;
+                Doc doc = Doc.of(loc);
+                segment.docs[ordinal] = doc;
+                segment.ordinalById.put(doc.id(), ordinal);
+
+                grams.clear();
+                addGrams(doc.name(), MAX_GRAM, grams);
+                addGrams(doc.address(), MAX_GRAM, grams);
+                for (String gram : grams) {
+                    grouped.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+                }
+            }
+            grouped.forEach((gram, ordinals) ->
+                    segment.postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+            return segment;
+        }
+
+        int[] candidates(String query) {
+            List<String> grams = new ArrayList<>();
+            if (query.codePointCount(0, query.length()) <= MAX_GRAM) {
+                grams.add(query);
+            } else {
+                int[] cps = query.codePoints().toArray();
+                for (int i = 0; i + MAX_GRAM <= cps.length; i++) {
+                    grams.add(new String(cps, i, MAX_GRAM));
+                }
+            }
+
+            List<int[]> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                int[] list = postings.get(gram);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            // 짧은 목록부터 교집합해야 중간 결과가 빨리 줄어든다
+            lists.sort(Comparator.comparingInt(list -> list.length));
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        void upsert(Location loc) {
+            Integer previous = ordinalById.get(loc.getId());
+
+            int ordinal = docCount++;
+            Doc doc = Doc.of(loc);
+            Doc[] current = docs;
+            if (ordinal >= current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[ordinal] = doc;
+            docs = current;
+            ordinalById.put(doc.id(), ordinal);
+
+            Set<String> grams = new LinkedHashSet<>();
+            addGrams(doc.name(), MAX_GRAM, grams);
+            addGrams(doc.address(), MAX_GRAM, grams);
+            int[] added = {ordinal};
+            for (String gram : grams) {
+                postings.merge(gram, added, LocationSearchIndex::append);
+            }
+
+            // 새 문서가 보이게 된 뒤에 이전 문서를 지운다
+            if (previous != null) {
+                docs[previous] = null;
+                deadCount++;
+            }
+        }
+
+        void remove(long id) {
+            Integer ordinal = ordinalById.remove(id);
+            if (ordinal != null) {
+                docs[ordinal] = null;
+                deadCount++;
+            }
+        }
+
+        boolean needsCompaction() {
+            return deadCount > 64 && deadCount > docCount - deadCount;
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package com.center.search.application.location;
 
+import com.center.search.common.AddressNormalizer;
+import com.center.search.common.SeongnamArea;
 import com.center.search.domain.dto.LocationCreateRequest;
+import com.center.search.domain.dto.LocationPatchRequest;
 import com.center.search.domain.entity.*;
+import com.center.search.domain.event.LocationChangedEvent;
 import com.center.search.domain.repo.LocationRepo;
 import com.center.search.domain.service.CoordinateCalculationService;
 import com.center.search.domain.service.LocationService;
+import com.center.search.domain.service.LocationSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -17,37 +27,71 @@ public class LocationServiceImpl implements LocationService {
 
     private final LocationRepo locationRepo;
     private final CoordinateCalculationService coordinateCalculationService;
+    private final LocationSnapshotService locationSnapshotService;
+    private final LocationGridIndex locationGridIndex;
+    private final CellStripedLock cellStripedLock;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${location.duplicate-check.range-in-meters:10.0}")
+    private double duplicateRangeInMeters;
 
     public LocationServiceImpl(LocationRepo locationRepo,
-                               CoordinateCalculationService coordinateCalculationService) {
+                               CoordinateCalculationService coordinateCalculationService,
+                               LocationSnapshotService locationSnapshotService,
+                               LocationGridIndex locationGridIndex,
+                               CellStripedLock cellStripedLock,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher) {
         this.locationRepo = locationRepo;
         this.coordinateCalculationService = coordinateCalculationService;
+        this.locationSnapshotService = locationSnapshotService;
+        this.locationGridIndex = locationGridIndex;
+        this.cellStripedLock = cellStripedLock;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
+    // 락을 커밋(스냅샷 반영) 이후까지 잡아야 하므로 트랜잭션은 락 안에서 직접 연다
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Location createLocation(LocationCreateRequest locationCreateRequest) {
 
-        // 중복 체크
-        if (isDuplicateLocation(locationCreateRequest)) {
+        // Value Object 생성
+        LocationNumber locationNumber = LocationNumber.createLocationNumber(locationCreateRequest.getLocationNumber());
+        LocationName locationName = LocationName.create(locationCreateRequest.getLocationName());
+        LocationAddress locationAddress = LocationAddress.create(locationCreateRequest.getLocationAddress());
+        String addressHash = AddressNormalizer.hash(locationAddress.getAddress());
+
+        // 1단계: 주소 중복 - 좌표 변환 전에 인덱스로 바로 걸러낸다
+        if (isDuplicateAddress(addressHash)) {
             throw new IllegalArgumentException("Duplicate location exists");
         }
 
-        // 주소를 좌표로 변환
+        // 주소를 좌표로 변환 (중복 검사와 저장에 같은 결과를 쓴다)
         Coordinate coordinate = coordinateCalculationService
                 .convertAddressToCoordinate(locationCreateRequest.getLocationAddress());
-
-        // Value Object 생성
-        LocationNumber locationNumber = LocationNumber.createLocationNumber(locationCreateRequest.getLocationNumber());
-        LocationName locationName = LocationName.create(locationCreateRequest.getLocationName());
-        LocationAddress locationAddress = LocationAddress.create(locationCreateRequest.getLocationAddress());
         LocationLatitude latitude = LocationLatitude.create(coordinate.latitude());
         LocationLongitude longitude = LocationLongitude.create(coordinate.longitude());
 
-        // Location 엔티티 생성
-        Location location = new Location(locationNumber, locationName, locationAddress,
-                latitude, longitude, 1); // 기본값: 활성
+        // 같은 칸 근처의 동시 등록은 직렬화 - 앞선 등록이 커밋되어 격자에 반영된 뒤에 검사한다
+        return cellStripedLock.runLocked(coordinate.latitude(), coordinate.longitude(), duplicateRangeInMeters,
+                () -> transactionTemplate.execute(tx -> {
+                    // 2단계: 락 안에서 주소/좌표 중복 재확인
+                    if (isDuplicateAddress(addressHash) || isDuplicateCoordinate(coordinate)) {
+                        throw new IllegalArgumentException("Duplicate location exists");
+                    }
+
+                    // Location 엔티티 생성
+                    Location location = new Location(locationNumber, locationName, locationAddress,
+                            latitude, longitude, 1); // 기본값: 활성
+                    location.setDistrict(SeongnamArea.resolveDistrict(locationAddress.getAddress()));
+                    location.setAddressHash(addressHash);
 
-        return locationRepo.save(location);
+                    Location saved = locationRepo.save(location);
+                    eventPublisher.publishEvent(new LocationChangedEvent(saved, saved.getStatus()));
+                    return saved;
+                }));
     }
 
     @Override
@@ -63,25 +107,125 @@ public class LocationServiceImpl implements LocationService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 메모리 조회 - 커넥션을 잡지 않는다
+    public List<Location> findActiveLocations() {
+        return locationSnapshotService.getSnapshot().locations();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Location> findActiveLocationsByDistrict(String district) {
+        return locationSnapshotService.getSnapshot().inDistrict(district);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Integer> countActiveLocationsByDistrict() {
+        return locationSnapshotService.getSnapshot().countByDistrict();
+    }
+
+    // 좌표 변환(외부 API, 지오코딩 캐시 테이블) 은 트랜잭션 밖에서 하고 쓰기만 짧은 트랜잭션으로 연다
+    // - 캐시 테이블 오류가 수정 트랜잭션을 rollback-only 로 만들거나, 외부 호출 동안 커넥션을 잡지 않도록
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Location updateLocation(Long id, LocationCreateRequest locationCreateRequest) {
-        Location existingLocation = locationRepo.findById(id)
+        Location stored = locationRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Location not found with id: " + id));
 
-        Coordinate coordinate = coordinateCalculationService
-                .convertAddressToCoordinate(locationCreateRequest.getLocationAddress());
-
         // Value Object들의 update 메서드 활용
         LocationNumber newLocationNumber = LocationNumber.createLocationNumber(locationCreateRequest.getLocationNumber());
         LocationName newLocationName = LocationName.create(locationCreateRequest.getLocationName());
         LocationAddress newLocationAddress = LocationAddress.create(locationCreateRequest.getLocationAddress());
-        LocationLatitude newLatitude = LocationLatitude.create(coordinate.latitude());
-        LocationLongitude newLongitude = LocationLongitude.create(coordinate.longitude());
+        String newAddressHash = AddressNormalizer.hash(newLocationAddress.getAddress());
+
+        // 주소가 (정규화 기준으로) 그대로면 저장된 좌표를 쓴다 - 좌표 변환 호출 없음
+        Coordinate coordinate = null;
+        if (!newAddressHash.equals(stored.getAddressHash())) {
+            coordinate = coordinateCalculationService.convertAddressToCoordinate(newLocationAddress.getAddress());
+        }
 
-        // 기존 엔티티 업데이트
-        existingLocation.updateWith(newLocationNumber, newLocationName, newLocationAddress,
-                newLatitude, newLongitude);
+        Coordinate changedCoordinate = coordinate;
+        return transactionTemplate.execute(tx -> {
+            Location existingLocation = locationRepo.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Location not found with id: " + id));
+            LocationLatitude newLatitude = changedCoordinate == null ? existingLocation.getLatitude()
+                    : LocationLatitude.create(changedCoordinate.latitude());
+            LocationLongitude newLongitude = changedCoordinate == null ? existingLocation.getLongitude()
+                    : LocationLongitude.create(changedCoordinate.longitude());
 
-        return locationRepo.save(existingLocation);
+            // 기존 엔티티 업데이트
+            existingLocation.updateWith(newLocationNumber, newLocationName, newLocationAddress,
+                    newLatitude, newLongitude);
+            existingLocation.setDistrict(SeongnamArea.resolveDistrict(newLocationAddress.getAddress()));
+            existingLocation.setAddressHash(newAddressHash);
+
+            Location saved = locationRepo.save(existingLocation);
+            eventPublisher.publishEvent(new LocationChangedEvent(saved, saved.getStatus()));
+            return saved;
+        });
+    }
+
+    // 좌표 변환(외부 API) 동안 커넥션을 잡지 않도록, 비교/변환은 트랜잭션 밖에서 하고 쓰기만 짧은 트랜잭션으로 연다
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Location patchLocation(Long id, LocationPatchRequest locationPatchRequest) {
+        Location stored = locationRepo.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Location not found with id: " + id));
+
+        // 보낸 필드만 값 객체로 검증하고, 저장된 값과 같으면 null 로 둔다
+        LocationName newName = locationPatchRequest.getLocationName() == null ? null
+                : LocationName.create(locationPatchRequest.getLocationName());
+        LocationNumber newNumber = locationPatchRequest.getLocationNumber() == null ? null
+                : LocationNumber.createLocationNumber(locationPatchRequest.getLocationNumber());
+        LocationAddress newAddress = locationPatchRequest.getLocationAddress() == null ? null
+                : LocationAddress.create(locationPatchRequest.getLocationAddress());
+        if (newName != null && newName.equals(stored.getLocationName())) {
+            newName = null;
+        }
+        if (newNumber != null && newNumber.equals(stored.getLocationNumber())) {
+            newNumber = null;
+        }
+        String newAddressHash = newAddress == null ? null : AddressNormalizer.hash(newAddress.getAddress());
+        if (newAddress != null && newAddress.equals(stored.getLocationAddress())) {
+            newAddress = null;
+        }
+
+        if (newName == null && newNumber == null && newAddress == null) {
+            return stored; // 바뀐 것이 없으면 쓰기/이벤트 없음
+        }
+
+        // 표기만 다르고 정규화 주소가 같으면 좌표는 그대로
+        Coordinate coordinate = null;
+        if (newAddress != null && !newAddressHash.equals(stored.getAddressHash())) {
+            coordinate = coordinateCalculationService.convertAddressToCoordinate(newAddress.getAddress());
+        }
+
+        LocationName name = newName;
+        LocationNumber number = newNumber;
+        LocationAddress address = newAddress;
+        Coordinate changedCoordinate = coordinate;
+        return transactionTemplate.execute(tx -> {
+            Location location = locationRepo.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Location not found with id: " + id));
+            if (name != null) {
+                location.setLocationName(name);
+            }
+            if (number != null) {
+                location.setLocationNumber(number);
+            }
+            if (address != null) {
+                location.setLocationAddress(address);
+                location.setDistrict(SeongnamArea.resolveDistrict(address.getAddress()));
+                location.setAddressHash(newAddressHash);
+            }
+            if (changedCoordinate != null) {
+                location.setLatitude(LocationLatitude.create(changedCoordinate.latitude()));
+                location.setLongitude(LocationLongitude.create(changedCoordinate.longitude()));
+            }
+            // 변경 감지 + @DynamicUpdate - 바뀐 컬럼만 UPDATE 된다
+            eventPublisher.publishEvent(new LocationChangedEvent(location, location.getStatus()));
+            return location;
+        });
     }
 
     @Override
@@ -89,29 +233,25 @@ public class LocationServiceImpl implements LocationService {
         Location location = locationRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Location not found with id: " + id));
         try{
-            int result = locationRepo.updateLocationStatus(0 , id);
+            int result = locationRepo.updateLocationStatus(status, id);
             if(result == 0){
                 throw new IllegalArgumentException("Location not found with id: " + id);
             }
+            eventPublisher.publishEvent(new LocationChangedEvent(location, status));
         }catch (Exception e){
             e.printStackTrace();
         }
     }
 
 
+    // 외부 API 호출 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean isDuplicateLocation(LocationCreateRequest locationCreateRequest) {
         String address = locationCreateRequest.getLocationAddress();
 
-        // 1단계: 주소 기준 중복 체크
-        List<Location> locationsWithSameAddress = locationRepo.findAll()
-                .stream()
-                .filter(location -> location.getLocationAddress().toString().equals(address))
-                .filter(location -> location.getStatus() == 1)
-                .toList();
-
-        if (!locationsWithSameAddress.isEmpty()) {
+        // 1단계: 주소 기준 중복 체크 (정규화 주소 해시 인덱스)
+        if (isDuplicateAddress(AddressNormalizer.hash(address))) {
             return true;
         }
 
@@ -119,26 +259,23 @@ public class LocationServiceImpl implements LocationService {
         try {
             Coordinate newCoordinate = coordinateCalculationService
                     .convertAddressToCoordinate(address);
-
-            LocationLatitude newLatitude = LocationLatitude.create(newCoordinate.latitude());
-            LocationLongitude newLongitude = LocationLongitude.create(newCoordinate.longitude());
-
-            return locationRepo.findAll()
-                    .stream()
-                    .filter(location -> location.getStatus() == 1)
-                    .anyMatch(location ->
-                            coordinateCalculationService.isWithinRange(
-                                    newLatitude, newLongitude,
-                                    location.getLatitude(), location.getLongitude(),
-                                    10.0
-                            )
-                    );
+            return isDuplicateCoordinate(newCoordinate);
         } catch (Exception e) {
             System.out.println("좌표 기반 중복 체크 실패, 주소 기반 체크만 수행: " + e.getMessage());
             return false; // 좌표 변환 실패시 중복 아님으로 처리
         }
     }
 
+    private boolean isDuplicateAddress(String addressHash) {
+        return locationRepo.existsByAddressHashAndStatus(addressHash, Location.STATUS_ACTIVE);
+    }
+
+    // 격자 인덱스에서 반경 안의 활성 경로당 한 곳만 찾으면 된다
+    private boolean isDuplicateCoordinate(Coordinate coordinate) {
+        return !locationGridIndex.findNearest(coordinate.latitude(), coordinate.longitude(),
+                duplicateRangeInMeters, 1).isEmpty();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Location> findAllByIdInAndStatus(List<Long> ids, int status) {
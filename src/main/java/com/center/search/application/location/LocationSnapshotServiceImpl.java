@@ -0,0 +1,86 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.event.LocationChangedEvent;
+import com.center.search.domain.event.LocationsAddedEvent;
+import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class LocationSnapshotServiceImpl implements LocationSnapshotService {
+
+    private final LocationRepo locationRepo;
+    // 파생 인덱스들이 이 서비스를 다시 주입받으므로 지연 조회한다
+    private final ObjectProvider<LocationSnapshotListener> listeners;
+    private final AtomicReference<LocationSnapshot> current = new AtomicReference<>();
+
+    public LocationSnapshotServiceImpl(LocationRepo locationRepo,
+                                       ObjectProvider<LocationSnapshotListener> listeners) {
+        this.locationRepo = locationRepo;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public LocationSnapshot getSnapshot() {
+        LocationSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : loadIfAbsent();
+    }
+
+    @Override
+    public synchronized LocationSnapshot reload() {
+        LocationSnapshot previous = current.get();
+        long nextVersion = previous == null ? 1L : previous.version() + 1;
+
+        LocationSnapshot snapshot = LocationSnapshot.of(nextVersion, locationRepo.findAllByStatus(Location.STATUS_ACTIVE));
+        current.set(snapshot);
+        listeners.orderedStream().forEach(listener -> listener.onSnapshotReloaded(snapshot));
+        return snapshot;
+    }
+
+    // 커밋된 변경만 반영 - 롤백된 쓰기는 스냅샷에 보이지 않는다
+    // reload()와 같은 락을 잡아 전체 재적재 도중의 변경이 덮어써지지 않게 한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onLocationChanged(LocationChangedEvent event) {
+        LocationSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return; // 아직 로드 전이면 첫 조회 때 전체를 읽는다
+        }
+        LocationSnapshot next = snapshot.withChanged(event.location(), event.status());
+        current.set(next);
+
+        Long id = event.location().getId();
+        Location previous = snapshot.byId().get(id);
+        Location changed = next.byId().get(id);
+        listeners.orderedStream().forEach(listener -> listener.onLocationChanged(next, previous, changed));
+    }
+
+    // 대량 등록 배치 - 스냅샷은 한 번만 교체하고 인덱스에는 한 건씩 증분 반영한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onLocationsAdded(LocationsAddedEvent event) {
+        LocationSnapshot snapshot = current.get();
+        if (snapshot == null || event.locations().isEmpty()) {
+            return;
+        }
+        LocationSnapshot next = snapshot.withAdded(event.locations());
+        current.set(next);
+
+        for (Location added : event.locations()) {
+            Location previous = snapshot.byId().get(added.getId());
+            Location changed = next.byId().get(added.getId());
+            listeners.orderedStream().forEach(listener -> listener.onLocationChanged(next, previous, changed));
+        }
+    }
+
+    private synchronized LocationSnapshot loadIfAbsent() {
+        LocationSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+}
@@ -0,0 +1,255 @@
+package com.center.search.application.location;
+
+import com.center.search.common.HangulJamo;
+import com.center.search.common.SearchText;
+import com.center.search.domain.dto.SuggestionDto;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 앞부분 일치 색인.
+ * 이름 전체/이름 단어/주소 단어를 자모로 풀어낸 키와 초성 키를 정렬된 배열 하나에 담아 두고(평탄화한 트라이),
+ * 검색어도 자모로 풀어 이진 탐색으로 앞부분이 같은 키 구간만 훑는다.
+ * "분당", "분다"(입력 중), "ㅂㄷ"(초성) 가 모두 같은 방식으로 처리된다.
+ */
+@Service
+public class LocationSuggestIndex implements LocationSnapshotListener {
+
+    // 어떤 키로 걸렸는지에 따른 순위 - 작을수록 앞
+    private static final int RANK_NAME = 0;
+    private static final int RANK_NAME_TOKEN = 1;
+    private static final int RANK_ADDRESS_TOKEN = 2;
+
+    private final LocationSnapshotService locationSnapshotService;
+
+    private volatile Dictionary dictionary = Dictionary.build(List.of());
+
+    public LocationSuggestIndex(LocationSnapshotService locationSnapshotService) {
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    public List<SuggestionDto> suggest(String query, int limit) {
+        locationSnapshotService.getSnapshot(); // 첫 호출이면 스냅샷과 함께 색인이 채워진다
+
+        String prefix = keyOf(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        Dictionary current = dictionary;
+        int from = current.lowerBound(prefix);
+        int to = current.lowerBound(prefix + Character.MAX_VALUE);
+
+        // 같은 경로당이 여러 키로 걸리면 가장 좋은 순위만 남긴다
+        Map<Integer, Integer> bestRank = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            bestRank.merge(current.docs[i], current.ranks[i], Math::min);
+        }
+
+        Comparator<Map.Entry<Integer, Integer>> order = Comparator
+                .comparingInt((Map.Entry<Integer, Integer> e) -> e.getValue())
+                .thenComparingInt(e -> current.names[e.getKey()].length())
+                .thenComparing(e -> current.names[e.getKey()]);
+
+        // 가장 뒤에 올 후보가 맨 위에 오는 힙 - limit 개만 유지
+        PriorityQueue<Map.Entry<Integer, Integer>> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Map.Entry<Integer, Integer> entry : bestRank.entrySet()) {
+            heap.add(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<Integer, Integer>> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top.stream()
+                .map(e -> new SuggestionDto(current.ids[e.getKey()], current.names[e.getKey()]))
+                .toList();
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        dictionary = Dictionary.build(snapshot.locations());
+    }
+
+    // 한 건의 키만 정렬 위치에 빼고 넣는다 (전체를 다시 풀고 정렬하지 않는다)
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        Dictionary next = dictionary.with(previous, current);
+        // 지운 문서 번호가 살아 있는 문서보다 많아지면 새로 만든다
+        dictionary = next.needsCompaction() ? Dictionary.build(snapshot.locations()) : next;
+    }
+
+    // 정규화 후 공백 제거, 자모로 풀기 (초성만 입력한 경우는 그대로 남는다)
+    private static String keyOf(String text) {
+        String normalized = SearchText.normalize(text).replaceAll("\\s+", "");
+        return HangulJamo.decompose(normalized);
+    }
+
+    private record Key(String key, int doc, int rank) {
+    }
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::key);
+
+    /**
+     * 정렬된 키 배열과 키별 (문서 번호, 순위). 만든 뒤에는 바뀌지 않고, 변경은 새 인스턴스로 교체한다.
+     * 바뀐 경로당은 새 문서 번호를 받고 이전 번호는 키 없이 남는다.
+     */
+    private static final class Dictionary {
+
+        private final String[] keys;
+        private final int[] docs;
+        private final int[] ranks;
+        private final long[] ids;
+        private final String[] names;
+        // 쓰기 쪽(스냅샷 락 안)에서만 쓰는 id -> 현재 문서 번호. 다음 인스턴스로 넘겨 계속 쓴다
+        private final Map<Long, Integer> ordinalById;
+        private final int deadCount;
+
+        private Dictionary(String[] keys, int[] docs, int[] ranks, long[] ids, String[] names,
+                           Map<Long, Integer> ordinalById, int deadCount) {
+            this.keys = keys;
+            this.docs = docs;
+            this.ranks = ranks;
+            this.ids = ids;
+            this.names = names;
+            this.ordinalById = ordinalById;
+            this.deadCount = deadCount;
+        }
+
+        static Dictionary build(List<Location> locations) {
+            long[] ids = new long[locations.size()];
+            String[] names = new String[locations.size()];
+            Map<Long, Integer> ordinalById = new HashMap<>();
+            List<Key> entries = new ArrayList<>();
+
+            for (int doc = 0; doc < locations.size(); doc++) {
+                Location loc = locations.get(doc);
+                ids[doc] = loc.getId();
+                names[doc] = loc.getLocationName().getLocationName();
+                ordinalById.put(loc.getId(), doc);
+                addKeys(entries, loc, doc);
+            }
+
+            entries.sort(KEY_ORDER);
+            String[] keys = new String[entries.size()];
+            int[] docs = new int[entries.size()];
+            int[] ranks = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                Key entry = entries.get(i);
+                keys[i] = entry.key();
+                docs[i] = entry.doc();
+                ranks[i] = entry.rank();
+            }
+            return new Dictionary(keys, docs, ranks, ids, names, ordinalById, 0);
+        }
+
+        // previous 의 키를 빼고 current 의 키를 정렬 위치에 끼운 새 인스턴스 (한 번 훑으며 복사)
+        Dictionary with(Location previous, Location current) {
+            Integer removed = previous == null ? null : ordinalById.remove(previous.getId());
+            int dead = deadCount + (removed == null ? 0 : 1);
+
+            long[] nextIds = ids;
+            String[] nextNames = names;
+            List<Key> added = new ArrayList<>();
+            if (current != null) {
+                int doc = ids.length;
+                nextIds = Arrays.copyOf(ids, doc + 1);
+                nextNames = Arrays.copyOf(names, doc + 1);
+                nextIds[doc] = current.getId();
+                nextNames[doc] = current.getLocationName().getLocationName();
+                ordinalById.put(current.getId(), doc);
+                addKeys(added, current, doc);
+                added.sort(KEY_ORDER);
+            }
+
+            int capacity = keys.length + added.size();
+            String[] nextKeys = new String[capacity];
+            int[] nextDocs = new int[capacity];
+            int[] nextRanks = new int[capacity];
+            int n = 0;
+            int a = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (removed != null && docs[i] == removed) {
+                    continue;
+                }
+                // 같은 키면 기존 항목을 앞에 둔다 (전체를 만들 때의 안정 정렬과 같은 순서)
+                while (a < added.size() && added.get(a).key().compareTo(keys[i]) < 0) {
+                    Key key = added.get(a++);
+                    nextKeys[n] = key.key();
+                    nextDocs[n] = key.doc();
+                    nextRanks[n++] = key.rank();
+                }
+                nextKeys[n] = keys[i];
+                nextDocs[n] = docs[i];
+                nextRanks[n++] = ranks[i];
+            }
+            while (a < added.size()) {
+                Key key = added.get(a++);
+                nextKeys[n] = key.key();
+                nextDocs[n] = key.doc();
+                nextRanks[n++] = key.rank();
+            }
+            if (n < capacity) {
+                nextKeys = Arrays.copyOf(nextKeys, n);
+                nextDocs = Arrays.copyOf(nextDocs, n);
+                nextRanks = Arrays.copyOf(nextRanks, n);
+            }
+            return new Dictionary(nextKeys, nextDocs, nextRanks, nextIds, nextNames, ordinalById, dead);
+        }
+
+        boolean needsCompaction() {
+            return deadCount > 64 && deadCount > ids.length - deadCount;
+        }
+
+        // 이름 전체/이름 단어/주소 단어
+        private static void addKeys(List<Key> entries, Location loc, int doc) {
+            String name = SearchText.normalize(loc.getLocationName().getLocationName());
+            addKeys(entries, name.replaceAll("\\s+", ""), doc, RANK_NAME);
+            String[] nameTokens = name.split("\\s+");
+            for (int t = 1; t < nameTokens.length; t++) {
+                addKeys(entries, nameTokens[t], doc, RANK_NAME_TOKEN);
+            }
+            for (String token : SearchText.normalize(loc.getLocationAddress().getAddress()).split("\\s+")) {
+                addKeys(entries, token, doc, RANK_ADDRESS_TOKEN);
+            }
+        }
+
+        // 자모 키와 초성 키를 함께 넣는다 (한글이 없으면 둘이 같으므로 하나만)
+        private static void addKeys(List<Key> entries, String token, int doc, int rank) {
+            if (token.isEmpty()) {
+                return;
+            }
+            String jamo = HangulJamo.decompose(token);
+            String chosung = HangulJamo.chosung(token);
+            entries.add(new Key(jamo, doc, rank));
+            if (!chosung.equals(jamo)) {
+                entries.add(new Key(chosung, doc, rank));
+            }
+        }
+
+        // key 이상인 첫 위치
+        int lowerBound(String key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                // 같은 키가 여러 개면 가장 앞 것
+                while (index > 0 && keys[index - 1].equals(key)) {
+                    index--;
+                }
+                return index;
+            }
+            return -index - 1;
+        }
+    }
+}
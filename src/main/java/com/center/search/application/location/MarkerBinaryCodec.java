@@ -0,0 +1,111 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationMarkerDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마커 목록의 압축 바이너리(열 단위) 표현. 디코더는 static/center-skin/marker-codec.js
+ *
+ * <pre>
+ * magic   "CMK1"
+ * count   varint
+ * strings varint n, n x (varint 바이트 길이, UTF-8)   -- 이름/전화번호/주소 문자열 표 (중복 제거)
+ * ids     count x zigzag varint  -- 직전 id 와의 차이
+ * lats    count x zigzag varint  -- round(lat * 1e6) 의 직전 값과의 차이
+ * lngs    count x zigzag varint  -- round(lng * 1e6) 의 직전 값과의 차이
+ * names   count x varint         -- 문자열 표 인덱스
+ * tels    count x varint
+ * addrs   count x varint
+ * </pre>
+ */
+public final class MarkerBinaryCodec {
+
+    public static final String MEDIA_TYPE = "application/x-center-markers";
+
+    private static final byte[] MAGIC = {'C', 'M', 'K', '1'};
+    private static final double FIXED_POINT = 1_000_000.0;
+
+    private MarkerBinaryCodec() {
+    }
+
+    public static byte[] encode(List<LocationMarkerDto> markers) {
+        int count = markers.size();
+        Map<String, Integer> stringIndex = new HashMap<>();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        int[] names = new int[count];
+        int[] tels = new int[count];
+        int[] addrs = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            LocationMarkerDto marker = markers.get(i);
+            names[i] = intern(marker.name(), stringIndex, strings);
+            tels[i] = intern(marker.tel(), stringIndex, strings);
+            addrs[i] = intern(marker.address(), stringIndex, strings);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(strings.size() + count * 16 + 16);
+        out.writeBytes(MAGIC);
+        writeVarint(out, count);
+        writeVarint(out, stringIndex.size());
+        out.writeBytes(strings.toByteArray());
+
+        long prev = 0;
+        for (LocationMarkerDto marker : markers) {
+            writeVarint(out, zigzag(marker.id() - prev));
+            prev = marker.id();
+        }
+        prev = 0;
+        for (LocationMarkerDto marker : markers) {
+            long fixed = Math.round(marker.lat() * FIXED_POINT);
+            writeVarint(out, zigzag(fixed - prev));
+            prev = fixed;
+        }
+        prev = 0;
+        for (LocationMarkerDto marker : markers) {
+            long fixed = Math.round(marker.lng() * FIXED_POINT);
+            writeVarint(out, zigzag(fixed - prev));
+            prev = fixed;
+        }
+        for (int index : names) {
+            writeVarint(out, index);
+        }
+        for (int index : tels) {
+            writeVarint(out, index);
+        }
+        for (int index : addrs) {
+            writeVarint(out, index);
+        }
+        return out.toByteArray();
+    }
+
+    // 처음 나온 문자열이면 표에 추가하고, 표 인덱스 반환
+    private static int intern(String value, Map<String, Integer> stringIndex, ByteArrayOutputStream strings) {
+        String key = value == null ? "" : value;
+        Integer index = stringIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        writeVarint(strings, bytes.length);
+        strings.writeBytes(bytes);
+        stringIndex.put(key, stringIndex.size());
+        return stringIndex.size() - 1;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
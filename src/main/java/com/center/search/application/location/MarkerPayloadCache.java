@@ -0,0 +1,131 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationMarkerDto;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import com.center.search.domain.snapshot.LocationSnapshotListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 마커 목록 응답 본문을 데이터셋 버전별로 미리 직렬화/압축해 둔 캐시.
+ * 쓰기 후에는 백그라운드 스레드가 새 버전의 본문을 다시 만들고, 요청 스레드는 만들어진 바이트 배열을 그대로 내려준다.
+ */
+@Service
+public class MarkerPayloadCache implements LocationSnapshotListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MarkerPayloadCache.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Payload> ready = new AtomicReference<>();
+    // 아직 반영되지 않은 최신 스냅샷 - 연속된 쓰기는 마지막 것 하나로 합쳐서 한 번만 다시 만든다
+    private final AtomicReference<LocationSnapshot> pending = new AtomicReference<>();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "marker-payload-rebuilder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MarkerPayloadCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // 스냅샷 버전과 같은 본문을 돌려준다. 백그라운드 갱신이 아직 안 끝났으면 요청 스레드에서 만든다
+    public Payload get(LocationSnapshot snapshot) {
+        Payload payload = ready.get();
+        if (payload != null && payload.version() == snapshot.version()) {
+            return payload;
+        }
+        Payload built = build(snapshot);
+        publish(built);
+        return built;
+    }
+
+    @Override
+    public void onSnapshotReloaded(LocationSnapshot snapshot) {
+        scheduleRebuild(snapshot);
+    }
+
+    @Override
+    public void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current) {
+        scheduleRebuild(snapshot);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void scheduleRebuild(LocationSnapshot snapshot) {
+        if (pending.getAndSet(snapshot) == null) {
+            rebuilder.execute(() -> {
+                LocationSnapshot latest = pending.getAndSet(null);
+                if (latest == null) {
+                    return;
+                }
+                try {
+                    publish(build(latest));
+                } catch (RuntimeException e) {
+                    // 다음 요청에서 동기로 다시 만들어지므로 로그만 남긴다
+                    log.warn("마커 본문 재생성 실패 (스냅샷 v{})", latest.version(), e);
+                }
+            });
+        }
+    }
+
+    // 더 새 버전이 이미 올라가 있으면 덮어쓰지 않는다
+    private void publish(Payload built) {
+        ready.accumulateAndGet(built,
+                (prev, next) -> prev != null && prev.version() >= next.version() ? prev : next);
+    }
+
+    private Payload build(LocationSnapshot snapshot) {
+        List<LocationMarkerDto> markers = snapshot.locations().stream()
+                .map(LocationMarkerDto::from)
+                .toList();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(markers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("마커 목록 직렬화 실패", e);
+        }
+        byte[] binary = MarkerBinaryCodec.encode(markers);
+
+        return new Payload(snapshot.version(), json, gzip(json), binary, gzip(binary));
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record Payload(long version, byte[] json, byte[] jsonGzip, byte[] binary, byte[] binaryGzip) {
+
+        public byte[] body(boolean binaryFormat, boolean gzipped) {
+            if (binaryFormat) {
+                return gzipped ? binaryGzip : binary;
+            }
+            return gzipped ? jsonGzip : json;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.center.search.application.location;
+
+import com.center.search.common.MapsApiPath;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MapsApiPath 에 설정된 NAVER Maps API 호출용 공용 HTTP 클라이언트.
+ * 클라이언트 하나를 공유하므로 호스트별 keep-alive 연결이 풀에서 재사용되고, 연결/응답에 시간 제한이 걸린다.
+ * 응답 본문은 받은 바이트에서 바로 호출하는 쪽의 ObjectReader 로 파싱한다 (문자열/Map 을 거치지 않는다).
+ */
+@Component
+public class NaverMapsClient {
+
+    private final MapsApiPath mapsApiPath;
+    private final HttpClient httpClient;
+    // 요청을 보낸 뒤 본문을 다 받을 때까지의 제한
+    private final Duration readTimeout;
+
+    public NaverMapsClient(MapsApiPath mapsApiPath,
+                           @Value("${ncp.maps.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                           @Value("${ncp.maps.http.read-timeout-ms:5000}") long readTimeoutMs) {
+        this.mapsApiPath = mapsApiPath;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * GET baseUrl?query 를 보내고 200 응답 본문을 reader 로 읽는다.
+     * 시간 초과/연결 실패/200 이 아닌 응답은 IllegalStateException.
+     */
+    public <T> T get(String baseUrl, Map<String, String> query, ObjectReader reader) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl);
+        query.forEach(builder::queryParam);
+        URI uri = builder.encode().build().toUri();
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .header("X-NCP-APIGW-API-KEY-ID", mapsApiPath.getNAVER_API_KEY_ID())
+                .header("X-NCP-APIGW-API-KEY", mapsApiPath.getNAVER_API_KEY())
+                .build();
+
+        // 본문까지 받는 전체 시간을 제한한다 - 헤더만 보내고 멈춘 upstream 이 요청 스레드를 붙잡지 못하게
+        CompletableFuture<HttpResponse<byte[]>> pending =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> response;
+        try {
+            response = pending.get(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pending.cancel(true);
+            throw new IllegalStateException("NAVER API 응답 시간 초과 (" + readTimeout.toMillis() + "ms): " + uri.getPath(), e);
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("NAVER API 호출 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("NAVER API 호출 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("NAVER API 응답 코드 " + response.statusCode() + ": " + uri.getPath());
+        }
+        try {
+            return reader.readValue(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("NAVER API 응답 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+}
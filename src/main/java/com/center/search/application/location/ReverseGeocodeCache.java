@@ -0,0 +1,142 @@
+package com.center.search.application.location;
+
+import com.center.search.common.MapsApiPath;
+import com.center.search.common.SeongnamArea;
+import com.center.search.domain.dto.GeoRegionDto;
+import com.center.search.domain.dto.ReverseGeocodeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌표 -> 구/동 (NAVER Reverse Geocoding) 캐시.
+ * 좌표를 cellMeters 크기 격자 칸으로 맞춘 뒤 칸 중심으로 조회하므로, 지도를 조금씩 움직이는 요청은 같은 칸에 모여
+ * 메모리 LRU(최대 maxEntries 칸) 에서 끝난다. 같은 칸을 동시에 찾으면 외부 API 는 한 번만 부르고 나머지는 그 결과를 기다린다.
+ * 결과가 없는 칸(바다, 국외)도 저장하고, 호출 실패는 저장하지 않는다.
+ */
+@Component
+public class ReverseGeocodeCache {
+
+    private static final ObjectReader REVERSE_GEOCODE_READER =
+            new ObjectMapper().readerFor(ReverseGeocodeResponse.class);
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+    // 결과 없는 칸 표시 (호출하는 쪽에는 null 로 돌려준다)
+    private static final GeoRegionDto NOT_FOUND = new GeoRegionDto(null, null, null, null, 0, 0);
+
+    private final NaverMapsClient naverMapsClient;
+    private final String reverseGeocodingUrl;
+    private final double cellLatDegrees;
+    private final double cellMeters;
+    private final int maxEntries;
+
+    private final LinkedHashMap<Long, GeoRegionDto> entries;
+    private final ConcurrentHashMap<Long, CompletableFuture<GeoRegionDto>> inFlight = new ConcurrentHashMap<>();
+
+    public ReverseGeocodeCache(NaverMapsClient naverMapsClient, MapsApiPath mapsApiPath,
+                               @Value("${location.reverse-geocode.cell-meters:100}") double cellMeters,
+                               @Value("${location.reverse-geocode.max-entries:20000}") int maxEntries) {
+        this.naverMapsClient = naverMapsClient;
+        this.reverseGeocodingUrl = mapsApiPath.getReverseGeocoding() + "/gc";
+        this.cellMeters = cellMeters;
+        this.cellLatDegrees = cellMeters / METERS_PER_DEGREE_LAT;
+        this.maxEntries = maxEntries;
+        // 접근 순서 - 가장 오래 안 쓴 칸이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GeoRegionDto> eldest) {
+                return size() > ReverseGeocodeCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * (lat, lng) 가 속한 칸의 구/동. 행정구역이 없는 곳이면 null, 외부 API 호출 실패는 IllegalStateException.
+     */
+    public GeoRegionDto lookup(double lat, double lng) {
+        int row = (int) Math.floor(lat / cellLatDegrees);
+        double centerLat = (row + 0.5) * cellLatDegrees;
+        // 경도 칸 폭은 행의 중심 위도에서 정한다 - 같은 행이면 어느 점이든 같은 칸으로 떨어진다
+        double cellLngDegrees = cellMeters / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(centerLat)));
+        int col = (int) Math.floor(lng / cellLngDegrees);
+        double centerLng = (col + 0.5) * cellLngDegrees;
+        long key = ((long) row << 32) | (col & 0xffffffffL);
+
+        GeoRegionDto cached = cachedInMemory(key);
+        if (cached != null) {
+            return cached == NOT_FOUND ? null : cached;
+        }
+
+        CompletableFuture<GeoRegionDto> flight = new CompletableFuture<>();
+        CompletableFuture<GeoRegionDto> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            GeoRegionDto region = await(existing);
+            return region == NOT_FOUND ? null : region;
+        }
+
+        try {
+            GeoRegionDto region = request(centerLat, centerLng);
+            synchronized (this) {
+                entries.put(key, region);
+            }
+            flight.complete(region);
+            return region == NOT_FOUND ? null : region;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized GeoRegionDto cachedInMemory(long key) {
+        return entries.get(key);
+    }
+
+    private GeoRegionDto request(double lat, double lng) {
+        // coords 는 "경도,위도" 순서. 행정동을 먼저, 없으면 법정동
+        String coords = String.format(Locale.ROOT, "%.7f,%.7f", lng, lat);
+        ReverseGeocodeResponse response = naverMapsClient.get(reverseGeocodingUrl,
+                Map.of("coords", coords, "orders", "admcode,legalcode", "output", "json"),
+                REVERSE_GEOCODE_READER);
+
+        ReverseGeocodeResponse.Region region = response.firstRegion();
+        if (region == null) {
+            return NOT_FOUND;
+        }
+        String sido = nameOf(region.area1());
+        String sigungu = nameOf(region.area2());
+        String district = SeongnamArea.resolveDistrict(sigungu);
+        if (district == null && sigungu != null) {
+            district = sigungu.substring(sigungu.lastIndexOf(' ') + 1);
+        }
+        return new GeoRegionDto(sido, sigungu, district, nameOf(region.area3()), lat, lng);
+    }
+
+    private static String nameOf(ReverseGeocodeResponse.Area area) {
+        return area == null || area.name() == null || area.name().isBlank() ? null : area.name();
+    }
+
+    // 먼저 시작한 조회의 결과를 기다린다 - 그쪽이 실패하면 같은 예외
+    private static GeoRegionDto await(CompletableFuture<GeoRegionDto> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
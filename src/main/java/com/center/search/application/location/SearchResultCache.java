@@ -0,0 +1,120 @@
+package com.center.search.application.location;
+
+import com.center.search.common.SearchText;
+import com.center.search.domain.dto.SearchCacheStats;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시 (LRU, 최대 maxEntries 개).
+ * 정규화한 검색어 + 커서 + limit 을 키로, 순위순 결과 위치(id 포함) 목록만 저장한다. 결과가 없는 검색도 그대로 저장한다.
+ * 모든 쓰기는 스냅샷 버전을 올리므로, 버전이 바뀌면 캐시 전체를 비운다.
+ */
+@Component
+public class SearchResultCache {
+
+    private final LocationSnapshotService locationSnapshotService;
+    private final int maxEntries;
+
+    private final LinkedHashMap<String, List<SearchPosition>> entries;
+    private long version = -1;
+
+    private long hits;
+    private long negativeHits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public SearchResultCache(LocationSnapshotService locationSnapshotService,
+                             @Value("${location.search.cache.max-entries:1000}") int maxEntries) {
+        this.locationSnapshotService = locationSnapshotService;
+        this.maxEntries = maxEntries;
+        // 접근 순서 - 가장 오래 안 쓴 항목이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SearchPosition>> eldest) {
+                if (size() > SearchResultCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에 있으면 저장된 id 순서대로 스냅샷에서 경로당을 꺼내고, 없으면 search 를 실행해 결과 위치를 저장한다.
+     */
+    public SearchPage get(String keyword, SearchPosition after, int limit, Supplier<SearchPage> search) {
+        LocationSnapshot snapshot = locationSnapshotService.getSnapshot();
+        String key = SearchText.normalize(keyword) + '\u0000' + (after == null ? "" : after.serialize()) + '\u0000' + limit;
+
+        List<SearchPosition> cached;
+        synchronized (this) {
+            invalidateIfStale(snapshot.version());
+            cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                if (cached.isEmpty()) {
+                    negativeHits++;
+                }
+            } else {
+                misses++;
+            }
+        }
+        if (cached != null) {
+            return resolve(cached, snapshot);
+        }
+
+        // 검색은 락 밖에서 - 같은 검색어가 동시에 들어오면 각자 실행하고 같은 값을 저장한다
+        SearchPage page = search.get();
+        synchronized (this) {
+            invalidateIfStale(snapshot.version());
+            if (version == snapshot.version()) {
+                entries.put(key, List.copyOf(page.positions()));
+            }
+        }
+        return page;
+    }
+
+    public synchronized SearchCacheStats stats() {
+        long lookups = hits + misses;
+        return new SearchCacheStats(entries.size(), maxEntries, hits, negativeHits, misses, evictions,
+                invalidations, lookups == 0 ? 0.0 : (double) hits / lookups);
+    }
+
+    // 스냅샷 버전이 바뀌었으면 비운다. 더 오래된 버전으로 되돌아가지는 않는다
+    private void invalidateIfStale(long current) {
+        if (current > version) {
+            if (!entries.isEmpty()) {
+                invalidations++;
+            }
+            entries.clear();
+            version = current;
+        }
+    }
+
+    private static SearchPage resolve(List<SearchPosition> positions, LocationSnapshot snapshot) {
+        List<Location> locations = new ArrayList<>(positions.size());
+        List<SearchPosition> resolved = new ArrayList<>(positions.size());
+        for (SearchPosition position : positions) {
+            Location loc = snapshot.byId().get(position.id());
+            if (loc != null) {
+                locations.add(loc);
+                resolved.add(position);
+            }
+        }
+        return new SearchPage(locations, resolved);
+    }
+}
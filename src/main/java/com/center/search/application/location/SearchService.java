@@ -1,20 +1,54 @@
 package com.center.search.application.location;
 
+import com.center.search.common.PageCursor;
+import com.center.search.domain.dto.LocationMarkerDto;
+import com.center.search.domain.dto.MarkerPageDto;
+import com.center.search.domain.dto.SearchCacheStats;
 import com.center.search.domain.entity.Location;
 import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.search.LocationSearchStrategy;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class SearchService {
 
     private final LocationRepo locationRepo;
+    // location.search.strategy 에 따라 메모리 색인 또는 MySQL FULLTEXT
+    private final LocationSearchStrategy searchStrategy;
+    private final SearchResultCache searchResultCache;
+    // location.search.fuzzy.enabled=false 면 없음
+    private final LocationFuzzyIndex locationFuzzyIndex;
+    private final GeoSearchRanker geoSearchRanker;
+    private final LocationGridIndex locationGridIndex;
 
-    public SearchService(LocationRepo locationRepo) {
+    // 첫 페이지 결과가 이보다 적으면 오타 허용 검색 결과를 뒤에 붙인다
+    @Value("${location.search.fuzzy.min-hits:3}")
+    private int fuzzyMinHits;
+
+    // 위치 기반 검색에서 넘겨 볼 수 있는 최대 결과 위치 (cursor offset 상한)
+    @Value("${location.search.geo.max-candidates:2000}")
+    private int geoMaxCandidates;
+
+    public SearchService(LocationRepo locationRepo, LocationSearchStrategy searchStrategy,
+                         SearchResultCache searchResultCache,
+                         ObjectProvider<LocationFuzzyIndex> locationFuzzyIndex,
+                         GeoSearchRanker geoSearchRanker, LocationGridIndex locationGridIndex) {
         this.locationRepo = locationRepo;
+        this.searchStrategy = searchStrategy;
+        this.searchResultCache = searchResultCache;
+        this.locationFuzzyIndex = locationFuzzyIndex.getIfAvailable();
+        this.geoSearchRanker = geoSearchRanker;
+        this.locationGridIndex = locationGridIndex;
     }
 
     public List<Location> searchLocations(String keyword) {
@@ -23,11 +57,119 @@ public class SearchService {
             return new ArrayList<>();
         }
 
-        // 검색어 정규화
-        String normalizedKeyword = keyword.trim();
+        // 통합 검색 - 정규화/우선순위 정렬은 검색 전략이 처리
+        return searchStrategy.search(keyword, null, Integer.MAX_VALUE).locations();
+    }
+
+    /**
+     * 순위순으로 limit 개씩 끊어 읽는다. cursor 는 이전 페이지가 돌려준 nextCursor (처음이면 null).
+     * 잘못된 커서는 IllegalArgumentException.
+     */
+    public MarkerPageDto searchLocations(String keyword, String cursor, int limit) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new MarkerPageDto(new ArrayList<>(), null);
+        }
+
+        String position = PageCursor.decodeText(cursor);
+        SearchPosition after = position == null ? null : SearchPosition.parse(position);
+
+        // 한 건 더 읽어 다음 페이지가 있는지 확인 (자주 들어오는 검색어는 캐시에서)
+        SearchPage page = searchResultCache.get(keyword, after, limit + 1,
+                () -> searchStrategy.search(keyword, after, limit + 1));
+        List<LocationMarkerDto> markers = page.locations().stream()
+                .limit(limit)
+                .map(LocationMarkerDto::from)
+                .toList();
+
+        String nextCursor = null;
+        if (page.locations().size() > limit) {
+            nextCursor = PageCursor.encodeText(page.positions().get(limit - 1).serialize());
+        } else if (after == null && markers.size() < Math.min(fuzzyMinHits, limit)) {
+            // 정확히 맞는 결과가 거의 없으면 오타일 가능성이 높다 - 가까운 이름을 정확한 결과 뒤에 붙인다
+            markers = appendFuzzyMatches(keyword, markers, limit);
+        }
+        return new MarkerPageDto(markers, nextCursor);
+    }
+
+    /**
+     * 사용자 위치(lat, lng)를 반영한 검색. 반경의 경계 상자 안 경로당 중 검색어에 맞는 것을 먼저
+     * 텍스트 순위와 radius 안 거리를 섞은 점수순으로, 그 뒤에 상자 밖 결과를 텍스트 순위순으로 limit 개씩.
+     * 순서가 사용자 위치마다 다르므로 cursor 는 앞에서부터의 위치(offset)를 담는다. 잘못된 커서는 IllegalArgumentException.
+     */
+    public MarkerPageDto searchLocationsNear(String keyword, double lat, double lng, double radiusInMeters,
+                                             String cursor, int limit) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return new MarkerPageDto(new ArrayList<>(), null);
+        }
+
+        long offset = PageCursor.decode(cursor);
+        if (offset < 0 || offset > geoMaxCandidates) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        int wanted = (int) offset + limit + 1;
+
+        // 격자에서 얻은 반경 안 id 와 텍스트 결과의 교집합 - 텍스트 순위가 아무리 뒤여도 가까우면 여기서 순위가 매겨진다
+        Set<Long> nearIds = locationGridIndex.findIdsNear(lat, lng, radiusInMeters);
+        SearchPage near = searchStrategy.searchAmong(keyword, nearIds);
+        List<Location> ranked = new ArrayList<>(geoSearchRanker.rank(near, lat, lng, radiusInMeters, wanted));
+
+        if (ranked.size() < wanted) {
+            // 먼 결과는 거리 점수가 없으므로 텍스트 순서 그대로 뒤에 붙인다.
+            // 텍스트 결과 중 가까운 것은 최대 near 개이므로 그만큼 더 읽으면 한 번에 모자라지 않는다
+            int tailLimit = wanted - ranked.size() + near.locations().size();
+            SearchPage text = searchResultCache.get(keyword, null, tailLimit,
+                    () -> searchStrategy.search(keyword, null, tailLimit));
+            for (Location loc : text.locations()) {
+                if (ranked.size() >= wanted) {
+                    break;
+                }
+                if (!nearIds.contains(loc.getId())) {
+                    ranked.add(loc);
+                }
+            }
+        }
+
+        List<LocationMarkerDto> markers = ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(LocationMarkerDto::from)
+                .toList();
+        String nextCursor = ranked.size() > offset + limit ? PageCursor.encode(offset + limit) : null;
+        return new MarkerPageDto(markers, nextCursor);
+    }
+
+    /**
+     * 오타 허용 이름 검색 (자모 편집 거리). 편집 거리 순으로 최대 limit 개.
+     */
+    public List<Location> searchFuzzy(String keyword, int limit) {
+        if (locationFuzzyIndex == null || keyword == null || keyword.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return locationFuzzyIndex.search(keyword, limit);
+    }
+
+    private List<LocationMarkerDto> appendFuzzyMatches(String keyword, List<LocationMarkerDto> exact, int limit) {
+        List<Location> fuzzy = searchFuzzy(keyword, limit);
+        if (fuzzy.isEmpty()) {
+            return exact;
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<LocationMarkerDto> merged = new ArrayList<>(exact);
+        exact.forEach(marker -> seen.add(marker.id()));
+        for (Location loc : fuzzy) {
+            if (merged.size() >= limit) {
+                break;
+            }
+            if (seen.add(loc.getId())) {
+                merged.add(LocationMarkerDto.from(loc));
+            }
+        }
+        return merged;
+    }
 
-        // 통합 검색 - 이미 우선순위 정렬되어 나옴
-        return locationRepo.searchByKeyword(normalizedKeyword, Location.STATUS_ACTIVE);
+    public SearchCacheStats cacheStats() {
+        return searchResultCache.stats();
     }
 
     // 추가적인 검색 메서드들 (필요시)
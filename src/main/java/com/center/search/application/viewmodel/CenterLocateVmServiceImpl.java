@@ -2,7 +2,7 @@ package com.center.search.application.viewmodel;
 
 import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.CenterLocateService;
-import com.center.search.domain.service.LocationService;
+import com.center.search.domain.service.LocationQueryService;
 import com.center.search.view.CenterLocateVM;
 import org.springframework.stereotype.Service;
 
@@ -17,16 +17,15 @@ import static com.center.search.common.SeongnamArea.SEONGNAM_ARR;
 @Service
 public class CenterLocateVmServiceImpl implements CenterLocateService {
 
-    private final LocationService locationService;
+    private final LocationQueryService locationService;
 
-    public CenterLocateVmServiceImpl(LocationService locationService) {
+    public CenterLocateVmServiceImpl(LocationQueryService locationService) {
         this.locationService = locationService;
     }
 
     @Override
     public List<CenterLocateVM> getCenterLocate() {
-        List<CenterLocateVM> result =  locationService.findAllLocations().stream()
-                .filter(Location::isActivate)
+        List<CenterLocateVM> result =  locationService.findActiveLocations().stream()
                 .map(loc -> new CenterLocateVM(
                         loc.getId(),
                         loc.getLocationName(),
@@ -44,7 +43,7 @@ public class CenterLocateVmServiceImpl implements CenterLocateService {
         Map<String, List<CenterLocateVM>> result = new HashMap<>();
 
         for (String seongnam : SEONGNAM_ARR) {
-            List<Location> locations = locationService.findAllLocations();
+            List<Location> locations = locationService.findActiveLocationsByDistrict(seongnam);
 
             if (locations.isEmpty()) {
                 result.put(seongnam, Collections.emptyList());
@@ -52,8 +51,6 @@ public class CenterLocateVmServiceImpl implements CenterLocateService {
             }
 
             List<CenterLocateVM> vms = locations.stream()
-                    .filter(Location::isActivate)
-                    .filter(loc -> loc.getLocationAddress().getAddress().contains(seongnam))
                     .map(loc -> new CenterLocateVM(
                             loc.getId(),
                             loc.getLocationName(),
@@ -2,7 +2,7 @@ package com.center.search.application.viewmodel;
 
 import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.CenterMainVmService;
-import com.center.search.domain.service.LocationService;
+import com.center.search.domain.service.LocationQueryService;
 import com.center.search.view.CenterMainVM;
 import org.springframework.stereotype.Service;
 
@@ -17,9 +17,9 @@ import static com.center.search.common.SeongnamArea.SEONGNAM_ARR;
 @Service
 public class CenterMainVmServiceImpl implements CenterMainVmService {
 
-    private final LocationService locationService;
+    private final LocationQueryService locationService;
 
-    public CenterMainVmServiceImpl(LocationService locationService) {
+    public CenterMainVmServiceImpl(LocationQueryService locationService) {
         this.locationService = locationService;
     }
 
@@ -29,7 +29,7 @@ public class CenterMainVmServiceImpl implements CenterMainVmService {
         Map<String, List<CenterMainVM>> result = new HashMap<>();
 
         for (String seongnam : SEONGNAM_ARR) {
-            List<Location> locations = locationService.findAllLocations();
+            List<Location> locations = locationService.findActiveLocationsByDistrict(seongnam);
 
             if (locations.isEmpty()) {
                 result.put(seongnam, Collections.emptyList());
@@ -37,8 +37,6 @@ public class CenterMainVmServiceImpl implements CenterMainVmService {
             }
 
             List<CenterMainVM> vms = locations.stream()
-                    .filter(Location::isActivate)
-                    .filter(loc -> loc.getLocationAddress().getAddress().contains(seongnam))
                     .map(loc -> new CenterMainVM(
                             loc.getId(),
                             loc.getLocationName(),
@@ -54,4 +52,9 @@ public class CenterMainVmServiceImpl implements CenterMainVmService {
         return result.isEmpty() ? Collections.emptyMap() : result;
     }
 
+    @Override
+    public Map<String, Integer> getCenterCounts() {
+        return locationService.countActiveLocationsByDistrict();
+    }
+
 }
@@ -0,0 +1,64 @@
+package com.center.search.application.viewmodel;
+
+import com.center.search.domain.service.CenterLocateService;
+import com.center.search.domain.service.LocationSnapshotService;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로당 선택/길찾기 화면의 구별 경로당 목록 HTML 캐시.
+ * 목록은 사용자와 무관하므로 데이터셋 버전마다 조각(fragment/district-picker)별로 한 번만 렌더링하고,
+ * 페이지는 요청별 부분(hidden 값 등)만 렌더링한 뒤 이 HTML 을 그대로 끼워 넣는다.
+ */
+@Service
+public class CenterPickerFragmentCache {
+
+    public static final String CHOOSE_LOCATE = "chooseLocate";
+    public static final String NAV_START = "navStart";
+    public static final String NAV_WAYPOINTS = "navWaypoints";
+    public static final String NAV_GOAL = "navGoal";
+
+    private static final String TEMPLATE = "center/fragment/district-picker";
+
+    private final ITemplateEngine templateEngine;
+    private final CenterLocateService centerLocateService;
+    private final LocationSnapshotService locationSnapshotService;
+
+    // 조각 이름 -> 마지막으로 렌더링한 버전과 HTML
+    private final Map<String, Rendered> rendered = new ConcurrentHashMap<>();
+
+    public CenterPickerFragmentCache(ITemplateEngine templateEngine,
+                                     CenterLocateService centerLocateService,
+                                     LocationSnapshotService locationSnapshotService) {
+        this.templateEngine = templateEngine;
+        this.centerLocateService = centerLocateService;
+        this.locationSnapshotService = locationSnapshotService;
+    }
+
+    public String get(String fragment) {
+        long version = locationSnapshotService.getSnapshot().version();
+
+        Rendered cached = rendered.get(fragment);
+        if (cached != null && cached.version() == version) {
+            return cached.html();
+        }
+
+        // 버전이 바뀐 직후 동시에 들어온 요청은 각자 렌더링할 수 있다 - 더 새 버전의 결과만 남긴다
+        Context context = new Context(Locale.KOREAN);
+        context.setVariable("vm", centerLocateService.getCenterLocateGroup());
+        String html = templateEngine.process(TEMPLATE, Set.of(fragment), context);
+
+        rendered.merge(fragment, new Rendered(version, html),
+                (prev, next) -> prev.version() > next.version() ? prev : next);
+        return html;
+    }
+
+    private record Rendered(long version, String html) {
+    }
+}
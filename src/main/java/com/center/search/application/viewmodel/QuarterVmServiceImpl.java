@@ -1,6 +1,5 @@
 package com.center.search.application.viewmodel;
 
-import com.center.search.domain.entity.Location;
 import com.center.search.domain.service.LocationService;
 import com.center.search.domain.service.QuarterVmService;
 import com.center.search.view.QuarterVM;
@@ -24,9 +23,7 @@ public class QuarterVmServiceImpl implements QuarterVmService {
     @Override
     public List<QuarterVM> getQuarterVMs(String area) {
 
-        return locationService.findAllLocations().stream()
-                .filter(Location::isActivate)
-                .filter(loc -> loc.getLocationAddress().getAddress().contains(area)) // area 필터 추가
+        return locationService.findActiveLocationsByDistrict(area).stream()
                 .map(loc -> new QuarterVM(
                         SEONGNAM_S,
                         SEONGNAM_B,
@@ -0,0 +1,33 @@
+package com.center.search.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class AddressNormalizer {
+
+    private AddressNormalizer() {
+    }
+
+    // "경기 성남시  분당구 ..." -> "성남시 분당구 ..." (도 이름 제거, 공백 정리)
+    public static String normalize(String address) {
+        if (address == null) {
+            return "";
+        }
+        return address.trim()
+                .replaceFirst("^경기(도)?\\s+", "")
+                .replaceAll("\\s+", " ");
+    }
+
+    // 정규화한 주소의 SHA-256 (hex 64자) - 주소 중복 검사용 인덱스 키
+    public static String hash(String address) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(normalize(address).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
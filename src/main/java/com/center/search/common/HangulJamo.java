@@ -0,0 +1,98 @@
+package com.center.search.common;
+
+/**
+ * 한글 음절을 호환 자모(ㄱ, ㅏ ...)로 풀어내는 유틸.
+ * 겹모음/겹받침까지 낱자로 쪼개므로, 입력 중인 글자("분다", "분ㄷ")나 초성만 친 검색어("ㅂㄷ")도
+ * 풀어낸 문자열의 앞부분 비교만으로 "분당"과 맞춰볼 수 있다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char COMPAT_FIRST = 0x3131; // ㄱ
+    private static final char COMPAT_LAST = 0x3163;  // ㅣ
+    private static final char COMPAT_CONSONANT_LAST = 0x314E; // ㅎ
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환 자모 중 겹자음/겹모음 -> 낱자 (ㄳ -> ㄱㅅ, ㅘ -> ㅗㅏ)
+    private static final String[] COMPAT_DECOMPOSED = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+    static {
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+                {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+                {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+                {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            COMPAT_DECOMPOSED[compound[0].charAt(0) - COMPAT_FIRST] = compound[1];
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    public static boolean isCompatJamo(char c) {
+        return c >= COMPAT_FIRST && c <= COMPAT_LAST;
+    }
+
+    public static boolean isCompatConsonant(char c) {
+        return c >= COMPAT_FIRST && c <= COMPAT_CONSONANT_LAST;
+    }
+
+    // "분당구" -> "ㅂㅜㄴㄷㅏㅇㄱㅜ". 한글이 아닌 문자는 그대로 둔다
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[offset % JONG_COUNT]);
+            } else if (isCompatJamo(c) && COMPAT_DECOMPOSED[c - COMPAT_FIRST] != null) {
+                sb.append(COMPAT_DECOMPOSED[c - COMPAT_FIRST]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // "분당구" -> "ㅂㄷㄱ". 한글이 아닌 문자는 그대로 둔다
+    public static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
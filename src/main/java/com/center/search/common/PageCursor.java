@@ -0,0 +1,49 @@
+package com.center.search.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 페이지 커서 인코딩. 클라이언트에는 해석할 필요 없는 불투명 문자열로 내보낸다.
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    public static String encode(long position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 0 (처음부터)
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(raw);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    // 정렬 키가 숫자 하나로 안 되는 경우(검색 순위 등)용 - 내용은 호출하는 쪽이 정한다
+    public static String encodeText(String position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (처음부터)
+    public static String decodeText(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
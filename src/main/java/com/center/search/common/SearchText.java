@@ -0,0 +1,21 @@
+package com.center.search.common;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색어/색인 대상 문자열 정규화.
+ * 자모가 풀린 채 들어온 한글(NFD)을 완성형으로 합치고 영문은 소문자로 맞춰, LIKE 검색과 같은 부분 문자열 비교가 되게 한다.
+ */
+public final class SearchText {
+
+    private SearchText() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -6,4 +6,17 @@ public final class SeongnamArea {
     public static final String SEONGNAM_B = "분당구";
     public static final String SEONGNAM_J = "중원구";
     public static final String[] SEONGNAM_ARR = {SEONGNAM_S, SEONGNAM_B, SEONGNAM_J};
+
+    // 주소에 포함된 구 이름 반환, 성남시 구가 아니면 null
+    public static String resolveDistrict(String address) {
+        if (address == null) {
+            return null;
+        }
+        for (String district : SEONGNAM_ARR) {
+            if (address.contains(district)) {
+                return district;
+            }
+        }
+        return null;
+    }
 }
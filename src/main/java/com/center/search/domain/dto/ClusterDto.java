@@ -0,0 +1,8 @@
+package com.center.search.domain.dto;
+
+public record ClusterDto(
+        double lat,
+        double lng,
+        int count,
+        LocationMarkerDto marker // count 가 1 일 때만 해당 경로당, 아니면 null
+) {}
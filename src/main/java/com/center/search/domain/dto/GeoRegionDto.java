@@ -0,0 +1,10 @@
+package com.center.search.domain.dto;
+
+public record GeoRegionDto(
+        String sido,     // 경기도
+        String sigungu,  // 성남시 분당구
+        String district, // 분당구 (구가 없는 시/군이면 sigungu 와 같다)
+        String dong,     // 정자1동
+        double cellLat,  // 조회에 쓴 격자 칸 중심 좌표
+        double cellLng
+) {}
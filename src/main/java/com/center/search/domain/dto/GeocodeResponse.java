@@ -0,0 +1,29 @@
+package com.center.search.domain.dto;
+
+import com.center.search.domain.entity.Coordinate;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+// NAVER Geocoding 응답 중 좌표 변환에 필요한 필드만 (나머지는 파싱 중에 건너뛴다)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeocodeResponse(
+        String status,
+        List<Address> addresses
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Address(
+            double x, // 경도 (응답은 문자열)
+            double y  // 위도
+    ) {}
+
+    // 첫 번째 결과의 좌표, 없으면 null
+    public Coordinate firstCoordinate() {
+        if (!"OK".equals(status) || addresses == null || addresses.isEmpty()) {
+            return null;
+        }
+        Address first = addresses.get(0);
+        return new Coordinate(first.x(), first.y());
+    }
+}
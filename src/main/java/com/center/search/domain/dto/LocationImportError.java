@@ -0,0 +1,6 @@
+package com.center.search.domain.dto;
+
+public record LocationImportError(
+        long line,     // CSV 줄 번호 (헤더 = 1)
+        String reason
+) {}
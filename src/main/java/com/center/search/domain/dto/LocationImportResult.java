@@ -0,0 +1,12 @@
+package com.center.search.domain.dto;
+
+import java.util.List;
+
+public record LocationImportResult(
+        int totalRows,
+        int imported,
+        int duplicates,   // 기존 데이터/파일 안의 다른 행과 주소 또는 좌표가 겹쳐 건너뛴 행
+        int failed,       // 형식 오류/좌표 변환 실패
+        List<LocationImportError> errors, // 건너뛰거나 실패한 행별 사유
+        long elapsedMillis
+) {}
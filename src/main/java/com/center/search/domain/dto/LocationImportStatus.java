@@ -0,0 +1,13 @@
+package com.center.search.domain.dto;
+
+public record LocationImportStatus(
+        String jobId,
+        String phase,          // QUEUED, READING, GEOCODING, SAVING, DONE, FAILED (묶음마다 READING~SAVING 반복)
+        int totalRows,         // 지금까지 읽은 데이터 행
+        int geocoded,
+        int geocodeTargets,    // 지금까지 읽은 묶음에서 주소 중복/형식 오류를 거르고 남은 좌표 변환 대상
+        int saved,             // 저장 단계에서 처리한 행 (저장 직전 재확인에서 걸린 중복 포함)
+        int saveTargets,       // 지금까지 좌표 중복을 거르고 남은 저장 대상
+        LocationImportResult result, // DONE 일 때만
+        String error                 // FAILED 일 때만
+) {}
@@ -1,5 +1,7 @@
 package com.center.search.domain.dto;
 
+import com.center.search.domain.entity.Location;
+
 public record LocationMarkerDto(
         Long id,
         String name,
@@ -7,4 +9,16 @@ public record LocationMarkerDto(
         String address,
         double lat,
         double lng
-) {}
+) {
+
+    public static LocationMarkerDto from(Location loc) {
+        return new LocationMarkerDto(
+                loc.getId(),
+                loc.getLocationName().getLocationName(),
+                loc.getLocationNumber().getLocationNumber(),
+                loc.getLocationAddress().getAddress(),
+                loc.getLatitude().getLatitude(),
+                loc.getLongitude().getLongitude()
+        );
+    }
+}
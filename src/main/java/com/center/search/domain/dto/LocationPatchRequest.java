@@ -0,0 +1,13 @@
+package com.center.search.domain.dto;
+
+import lombok.Data;
+
+// 부분 수정 - null 인 필드는 그대로 둔다
+@Data
+public class LocationPatchRequest {
+
+    String locationName;
+    String locationNumber;
+    String locationAddress;
+
+}
@@ -0,0 +1,9 @@
+package com.center.search.domain.dto;
+
+import java.time.Instant;
+
+public record LocationSnapshotInfo(
+        long version,
+        Instant builtAt,
+        int size
+) {}
@@ -0,0 +1,8 @@
+package com.center.search.domain.dto;
+
+import java.util.List;
+
+public record MarkerPageDto(
+        List<LocationMarkerDto> markers,
+        String nextCursor // 마지막 페이지면 null
+) {}
@@ -0,0 +1,17 @@
+package com.center.search.domain.dto;
+
+public record NearbyLocationDto(
+        Long id,
+        String name,
+        String tel,
+        String address,
+        double lat,
+        double lng,
+        double distance // 미터
+) {
+
+    public static NearbyLocationDto of(LocationMarkerDto marker, double distance) {
+        return new NearbyLocationDto(marker.id(), marker.name(), marker.tel(), marker.address(),
+                marker.lat(), marker.lng(), distance);
+    }
+}
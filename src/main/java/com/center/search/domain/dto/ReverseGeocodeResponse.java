@@ -0,0 +1,52 @@
+package com.center.search.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+// NAVER Reverse Geocoding(gc) 응답 중 행정구역 이름에 필요한 필드만 (나머지는 파싱 중에 건너뛴다)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReverseGeocodeResponse(
+        Status status,
+        List<Result> results
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Status(
+            int code, // 0: 정상, 3: 결과 없음
+            String name
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Result(
+            String name, // admcode / legalcode
+            Region region
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Region(
+            Area area1, // 시/도
+            Area area2, // 시/군/구 ("성남시 분당구")
+            Area area3  // 읍/면/동
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Area(
+            String name
+    ) {}
+
+    // 동 이름까지 있는 첫 번째 결과의 행정구역, 없으면 null
+    public Region firstRegion() {
+        if (status == null || status.code() != 0 || results == null) {
+            return null;
+        }
+        for (Result result : results) {
+            Region region = result.region();
+            if (region != null && region.area3() != null
+                    && region.area3().name() != null && !region.area3().name().isBlank()) {
+                return region;
+            }
+        }
+        return null;
+    }
+}
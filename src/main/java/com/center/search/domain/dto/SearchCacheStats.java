@@ -0,0 +1,12 @@
+package com.center.search.domain.dto;
+
+public record SearchCacheStats(
+        int size,
+        int maxEntries,
+        long hits,
+        long negativeHits, // hits 중 결과가 없는 검색
+        long misses,
+        long evictions,
+        long invalidations, // 데이터 변경으로 통째로 비운 횟수
+        double hitRate
+) {}
@@ -0,0 +1,7 @@
+package com.center.search.domain.dto;
+
+// 자동완성 결과 - 목록에 띄울 최소 정보만
+public record SuggestionDto(
+        Long id,
+        String name
+) {}
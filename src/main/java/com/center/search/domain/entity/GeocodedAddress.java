@@ -0,0 +1,53 @@
+package com.center.search.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 지오코딩 결과 영구 캐시 (정규화 주소 -> 좌표).
+ * 키는 AddressNormalizer.hash 로 Location.addressHash 와 같은 값이다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "geocoded_address")
+public class GeocodedAddress {
+
+    @Id
+    @Column(name = "address_hash", length = 64)
+    private String addressHash;
+
+    // 정규화한 주소 (AddressNormalizer.normalize)
+    @Column(length = 200, nullable = false)
+    private String address;
+
+    private double latitude;
+    private double longitude;
+
+    // 좌표를 돌려준 외부 지오코더와 받은 시각
+    @Column(length = 20, nullable = false)
+    private String provider;
+
+    @Column(name = "geocoded_at", nullable = false)
+    private Instant geocodedAt;
+
+    protected GeocodedAddress() {
+        // JPA 기본 생성자
+    }
+
+    public GeocodedAddress(String addressHash, String address, Coordinate coordinate, String provider, Instant geocodedAt) {
+        this.addressHash = addressHash;
+        this.address = address;
+        this.latitude = coordinate.latitude();
+        this.longitude = coordinate.longitude();
+        this.provider = provider;
+        this.geocodedAt = geocodedAt;
+    }
+
+    public Coordinate toCoordinate() {
+        return new Coordinate(longitude, latitude);
+    }
+}
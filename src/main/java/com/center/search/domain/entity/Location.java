@@ -4,11 +4,16 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @Entity
-@Table(name="location")
+@DynamicUpdate // 바뀐 컬럼만 UPDATE - 전화번호만 고치면 전화번호 컬럼만 쓴다
+@Table(name="location", indexes = {
+        @Index(name = "idx_location_status_district_name", columnList = "status, district, location_name"),
+        @Index(name = "idx_location_address_hash_status", columnList = "address_hash, status")
+})
 public class Location {
 
     public static final int STATUS_ACTIVE = 1;
@@ -29,6 +34,14 @@ public class Location {
 
     private int status;
 
+    // 구 (수정구/분당구/중원구) - 등록/수정 시 주소에서 한 번만 계산해 저장
+    @Column(length = 10)
+    private String district;
+
+    // 정규화한 주소의 해시 - 주소 중복 검사용 (AddressNormalizer.hash)
+    @Column(name = "address_hash", length = 64)
+    private String addressHash;
+
     public Location() {}
 
     @Builder
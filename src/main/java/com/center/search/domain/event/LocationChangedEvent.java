@@ -0,0 +1,16 @@
+package com.center.search.domain.event;
+
+import com.center.search.domain.entity.Location;
+
+/**
+ * 경로당 생성/수정/상태 변경 이벤트.
+ * 트랜잭션 커밋 이후에만 리스너로 전달된다.
+ *
+ * @param location 변경된 경로당 (커밋 시점 값)
+ * @param status   변경 후 상태 (Location.STATUS_ACTIVE / STATUS_INACTIVE)
+ */
+public record LocationChangedEvent(
+        Location location,
+        int status
+) {
+}
@@ -0,0 +1,16 @@
+package com.center.search.domain.event;
+
+import com.center.search.domain.entity.Location;
+
+import java.util.List;
+
+/**
+ * 대량 등록 배치 하나로 새로 저장된 활성 경로당들.
+ * 트랜잭션 커밋 이후에만 리스너로 전달되며, 스냅샷은 배치 하나당 버전이 한 번만 오른다.
+ *
+ * @param locations 저장된 경로당 (id 포함, 커밋 시점 값)
+ */
+public record LocationsAddedEvent(
+        List<Location> locations
+) {
+}
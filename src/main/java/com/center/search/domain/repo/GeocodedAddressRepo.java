@@ -0,0 +1,7 @@
+package com.center.search.domain.repo;
+
+import com.center.search.domain.entity.GeocodedAddress;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GeocodedAddressRepo extends JpaRepository<GeocodedAddress, String> {
+}
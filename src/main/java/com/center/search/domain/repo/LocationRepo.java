@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LocationRepo extends JpaRepository <Location, Long> {
@@ -19,6 +20,31 @@ public interface LocationRepo extends JpaRepository <Location, Long> {
     // LocationRepo에 추가
     List<Location> findAllByIdInAndStatus(List<Long> ids, int status);
 
+    // 상태별 전체 조회 - (status, district, name) 인덱스 사용
+    @Query("SELECT l FROM Location l WHERE l.status = :status ORDER BY l.id")
+    List<Location> findAllByStatus(@Param("status") int status);
+
+    // 주소 중복 검사 - (address_hash, status) 인덱스 사용
+    boolean existsByAddressHashAndStatus(String addressHash, int status);
+
+    // 대량 등록 주소 중복 - 묶음 하나의 주소 해시 중 이미 활성 경로당에 있는 것 (좌표 변환 전 거르기, 저장 직전 재확인)
+    @Query("SELECT l.addressHash FROM Location l WHERE l.status = :status AND l.addressHash IN :hashes")
+    List<String> findAddressHashesByStatusAndAddressHashIn(@Param("status") int status,
+                                                           @Param("hashes") Collection<String> hashes);
+
+    // 대량 등록 배치 저장 직후 - JDBC 배치는 생성된 id 를 돌려주지 않아 주소 해시로 다시 읽는다
+    List<Location> findAllByStatusAndAddressHashIn(int status, Collection<String> addressHashes);
+
+    // address_hash 컬럼 도입 이전 데이터
+    List<Location> findAllByAddressHashIsNull();
+
+    // district 컬럼 도입 이전 데이터 채우기
+    @Modifying
+    @Transactional
+    @Query("UPDATE Location loc SET loc.district = :district " +
+            "WHERE loc.district IS NULL AND loc.locationAddress.address LIKE %:district%")
+    int assignDistrict(@Param("district") String district);
+
     // 통합 검색 - 실제 필드명에 맞게 수정
     @Query("SELECT l FROM Location l WHERE l.status = :status " +
             "AND (l.locationName.locationName LIKE %:keyword% OR l.locationAddress.address LIKE %:keyword%) " +
@@ -43,4 +69,65 @@ public interface LocationRepo extends JpaRepository <Location, Long> {
             "ORDER BY l.locationAddress.address")
     List<Location> searchByAddress(@Param("keyword") String keyword, @Param("status") int status);
 
+    // 순위 검색 (FULLTEXT ngram 후보 + LIKE 확인) - 순위/이름/id 순 keyset 페이지. 주소 컬럼은 address
+    // 처음 페이지는 afterTier=0 으로 부른다. keyword 는 LIKE 특수문자(\, %, _)를 이스케이프한 값, phrase 는 "검색어"
+    @Query(value = "SELECT t.id AS id, t.tier AS tier, t.location_name AS name FROM (" +
+            "  SELECT l.id, l.location_name, CASE " +
+            "    WHEN l.location_name LIKE CONCAT(:keyword, '%') THEN 1 " +
+            "    WHEN l.location_name LIKE CONCAT('%', :keyword, '%') THEN 2 " +
+            "    ELSE 3 END AS tier " +
+            "  FROM location l " +
+            "  WHERE l.status = :status " +
+            "    AND MATCH(l.location_name, l.address) AGAINST (:phrase IN BOOLEAN MODE) " +
+            "    AND (l.location_name LIKE CONCAT('%', :keyword, '%') OR l.address LIKE CONCAT('%', :keyword, '%'))" +
+            ") t " +
+            "WHERE t.tier > :afterTier " +
+            "   OR (t.tier = :afterTier AND (t.location_name > :afterName " +
+            "       OR (t.location_name = :afterName AND t.id > :afterId))) " +
+            "ORDER BY t.tier, t.location_name, t.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<LocationSearchRow> searchRankedByFulltext(@Param("keyword") String keyword,
+                                                   @Param("phrase") String phrase,
+                                                   @Param("status") int status,
+                                                   @Param("afterTier") int afterTier,
+                                                   @Param("afterName") String afterName,
+                                                   @Param("afterId") long afterId,
+                                                   @Param("limit") int limit);
+
+    // 위와 같은 순위 검색의 LIKE 전용 버전 - FULLTEXT 가 없는 DB(H2 등)나 ngram 토큰보다 짧은 검색어용
+    @Query(value = "SELECT t.id AS id, t.tier AS tier, t.location_name AS name FROM (" +
+            "  SELECT l.id, l.location_name, CASE " +
+            "    WHEN l.location_name LIKE CONCAT(:keyword, '%') THEN 1 " +
+            "    WHEN l.location_name LIKE CONCAT('%', :keyword, '%') THEN 2 " +
+            "    ELSE 3 END AS tier " +
+            "  FROM location l " +
+            "  WHERE l.status = :status " +
+            "    AND (l.location_name LIKE CONCAT('%', :keyword, '%') OR l.address LIKE CONCAT('%', :keyword, '%'))" +
+            ") t " +
+            "WHERE t.tier > :afterTier " +
+            "   OR (t.tier = :afterTier AND (t.location_name > :afterName " +
+            "       OR (t.location_name = :afterName AND t.id > :afterId))) " +
+            "ORDER BY t.tier, t.location_name, t.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<LocationSearchRow> searchRankedByLike(@Param("keyword") String keyword,
+                                               @Param("status") int status,
+                                               @Param("afterTier") int afterTier,
+                                               @Param("afterName") String afterName,
+                                               @Param("afterId") long afterId,
+                                               @Param("limit") int limit);
+
+    // 위치 기반 검색용 - ids(반경 안 경로당) 중 검색어에 맞는 행 전부를 위와 같은 순위/순서로
+    @Query(value = "SELECT t.id AS id, t.tier AS tier, t.location_name AS name FROM (" +
+            "  SELECT l.id, l.location_name, CASE " +
+            "    WHEN l.location_name LIKE CONCAT(:keyword, '%') THEN 1 " +
+            "    WHEN l.location_name LIKE CONCAT('%', :keyword, '%') THEN 2 " +
+            "    ELSE 3 END AS tier " +
+            "  FROM location l " +
+            "  WHERE l.status = :status AND l.id IN (:ids) " +
+            "    AND (l.location_name LIKE CONCAT('%', :keyword, '%') OR l.address LIKE CONCAT('%', :keyword, '%'))" +
+            ") t " +
+            "ORDER BY t.tier, t.location_name, t.id", nativeQuery = true)
+    List<LocationSearchRow> searchRankedByLikeAmong(@Param("keyword") String keyword,
+                                                    @Param("status") int status,
+                                                    @Param("ids") Collection<Long> ids);
 }
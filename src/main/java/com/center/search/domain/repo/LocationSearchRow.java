@@ -0,0 +1,11 @@
+package com.center.search.domain.repo;
+
+// 순위 검색 네이티브 쿼리의 한 행 (id, 순위, 이름) - 엔티티는 id 로 따로 읽는다
+public interface LocationSearchRow {
+
+    Long getId();
+
+    Integer getTier();
+
+    String getName();
+}
@@ -0,0 +1,27 @@
+package com.center.search.domain.search;
+
+import java.util.Set;
+
+/**
+ * SearchService 가 쓰는 검색 백엔드.
+ * location.search.strategy 설정으로 하나만 빈으로 등록된다 (memory: 메모리 n-gram 색인, fulltext: MySQL FULLTEXT ngram).
+ */
+public interface LocationSearchStrategy {
+
+    // 순위 - 기존 searchByKeyword 의 CASE 순서와 같다
+    int TIER_NAME_PREFIX = 1;
+    int TIER_NAME_CONTAINS = 2;
+    int TIER_ADDRESS_CONTAINS = 3;
+
+    /**
+     * 이름 앞부분 일치 > 이름 포함 > 주소 포함, 같은 순위 안에서는 이름, id 순으로
+     * after 다음 결과를 최대 limit 개 반환한다. after 가 null 이면 처음부터.
+     */
+    SearchPage search(String keyword, SearchPosition after, int limit);
+
+    /**
+     * ids 에 든 경로당 중 검색어에 맞는 것 전부를 search 와 같은 순서로 반환한다.
+     * 위치 기반 검색에서 반경 안 경로당(격자 인덱스)과 텍스트 결과를 교집합할 때 쓴다.
+     */
+    SearchPage searchAmong(String keyword, Set<Long> ids);
+}
@@ -0,0 +1,11 @@
+package com.center.search.domain.search;
+
+import com.center.search.domain.entity.Location;
+
+import java.util.List;
+
+// positions 는 locations 와 같은 순서의 각 결과 위치
+public record SearchPage(
+        List<Location> locations,
+        List<SearchPosition> positions
+) {}
@@ -0,0 +1,24 @@
+package com.center.search.domain.search;
+
+/**
+ * 검색 결과 순서상 위치 (순위, 이름, id) - 다음 페이지 커서의 내용.
+ * 모든 검색 전략은 이 순서로 정렬하고, after 보다 뒤의 결과만 돌려준다.
+ */
+public record SearchPosition(int tier, String name, long id) {
+
+    public String serialize() {
+        return tier + ":" + id + ":" + name;
+    }
+
+    public static SearchPosition parse(String raw) {
+        String[] parts = raw.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid search position: " + raw);
+        }
+        try {
+            return new SearchPosition(Integer.parseInt(parts[0]), parts[2], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid search position: " + raw, e);
+        }
+    }
+}
@@ -9,4 +9,6 @@ import java.util.Map;
 public interface CenterMainVmService {
 
     Map<String, List<CenterMainVM>> getCenterMainVMs();
+
+    Map<String, Integer> getCenterCounts();
 }
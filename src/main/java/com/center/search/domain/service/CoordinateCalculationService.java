@@ -10,6 +10,9 @@ public interface CoordinateCalculationService {
     double calculateDistance(LocationLatitude lat1, LocationLongitude lon1,
                              LocationLatitude lat2, LocationLongitude lon2);
 
+    // 두 좌표 간 거리 계산 (미터 단위) -- 값 객체 없이 대량 계산할 때 사용
+    double calculateDistance(double lat1, double lon1, double lat2, double lon2);
+
     // 지정된 범위 내에 있는지 체크 -- 정보 추가할 때 위도/경도 중복 검사
     boolean isWithinRange(LocationLatitude lat1, LocationLongitude lon1,
                           LocationLatitude lat2, LocationLongitude lon2,
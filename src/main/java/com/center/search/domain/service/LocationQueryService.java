@@ -0,0 +1,24 @@
+package com.center.search.domain.service;
+
+import com.center.search.domain.entity.Location;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 경로당 조회 전용 - 화면 뷰모델 서비스처럼 읽기만 하는 쪽은 이 인터페이스에 의존한다
+public interface LocationQueryService {
+
+    // 조회 (Read)
+    Optional<Location> findLocationById(Long id);
+    List<Location> findAllLocations();
+
+    // 활성 경로당만 조회 (메모리 스냅샷, DB 조회 없음)
+    List<Location> findActiveLocations();
+
+    // 구 단위 활성 경로당 조회 / 구별 개수
+    List<Location> findActiveLocationsByDistrict(String district);
+    Map<String, Integer> countActiveLocationsByDistrict();
+
+    List<Location> findAllByIdInAndStatus(List<Long> ids, int status);
+}
@@ -1,28 +1,23 @@
 package com.center.search.domain.service;
 
 import com.center.search.domain.dto.LocationCreateRequest;
+import com.center.search.domain.dto.LocationPatchRequest;
 import com.center.search.domain.entity.Location;
 
-import java.util.List;
-import java.util.Optional;
-
-public interface LocationService {
+public interface LocationService extends LocationQueryService {
 
     // 생성 (Create)
     Location createLocation(LocationCreateRequest locationCreateRequest);
 
-    // 조회 (Read)
-    Optional<Location> findLocationById(Long id);
-    List<Location> findAllLocations();
-
     // 수정 (Update)
     Location updateLocation(Long id, LocationCreateRequest locationCreateRequest);
 
+    // 부분 수정 - 보낸 필드 중 실제로 바뀐 것만 반영 (주소가 바뀐 경우에만 좌표 변환)
+    Location patchLocation(Long id, LocationPatchRequest locationPatchRequest);
+
     // 상태 변경
     void replaceLocationStatus(Long id, int status);
 
     // 중복 검사
     boolean isDuplicateLocation(LocationCreateRequest locationCreateRequest);
-
-    List<Location> findAllByIdInAndStatus(List<Long> ids, int status);
 }
\ No newline at end of file
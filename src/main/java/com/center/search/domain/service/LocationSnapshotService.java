@@ -0,0 +1,12 @@
+package com.center.search.domain.service;
+
+import com.center.search.domain.snapshot.LocationSnapshot;
+
+public interface LocationSnapshotService {
+
+    // 현재 활성 경로당 스냅샷 (DB 조회 없음)
+    LocationSnapshot getSnapshot();
+
+    // DB에서 전체를 다시 읽어 스냅샷 교체
+    LocationSnapshot reload();
+}
@@ -0,0 +1,127 @@
+package com.center.search.domain.snapshot;
+
+import com.center.search.domain.entity.Location;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.center.search.common.SeongnamArea.SEONGNAM_ARR;
+
+/**
+ * 활성 경로당 목록의 불변 스냅샷.
+ * 쓰기가 커밋될 때마다 새 인스턴스로 통째로 교체되며(copy-on-write), 한 번 만들어진 스냅샷은 변경되지 않는다.
+ */
+public record LocationSnapshot(
+        long version,
+        Instant builtAt,
+        List<Location> locations,
+        Map<Long, Location> byId,
+        Map<String, List<Location>> byDistrict
+) {
+
+    // 프로세스마다 버전이 1부터 다시 시작하므로, 재시작 전후의 같은 버전 번호가 같은 ETag 가 되지 않도록 붙이는 구분자
+    private static final String LINEAGE = Long.toString(System.currentTimeMillis(), 36);
+
+    public static LocationSnapshot of(long version, Collection<Location> source) {
+        List<Location> copies = source.stream()
+                .filter(Location::isActivate)
+                .map(loc -> detachedCopy(loc, loc.getStatus()))
+                .toList();
+        return assemble(version, copies);
+    }
+
+    // 생성/수정/상태 변경 결과를 반영한 다음 버전의 스냅샷
+    public LocationSnapshot withChanged(Location changed, int status) {
+        List<Location> next = new ArrayList<>(locations.size() + 1);
+        for (Location loc : locations) {
+            if (!loc.getId().equals(changed.getId())) {
+                next.add(loc);
+            }
+        }
+        if (status == Location.STATUS_ACTIVE) {
+            next.add(detachedCopy(changed, status));
+        }
+        return assemble(version + 1, next);
+    }
+
+    // 대량 등록 배치로 새로 저장된 경로당을 더한 다음 버전의 스냅샷
+    public LocationSnapshot withAdded(Collection<Location> added) {
+        List<Location> next = new ArrayList<>(locations.size() + added.size());
+        next.addAll(locations);
+        for (Location loc : added) {
+            if (loc.isActivate() && !byId.containsKey(loc.getId())) {
+                next.add(detachedCopy(loc, loc.getStatus()));
+            }
+        }
+        return assemble(version + 1, next);
+    }
+
+    // 프로세스 재시작까지 구분하는 데이터셋 버전 문자열 - 버전이 박힌 URL(?v=) 에도 쓴다
+    public String versionTag() {
+        return LINEAGE + "-" + version;
+    }
+
+    // 데이터셋 버전 기반 강한 ETag. variant 는 같은 URL 의 표현(JSON/바이너리 등)을 구분한다
+    public String etag(String variant) {
+        return "\"" + versionTag() + "-" + variant + "\"";
+    }
+
+    public long lastModified() {
+        return builtAt.toEpochMilli();
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    public List<Location> inDistrict(String district) {
+        return byDistrict.getOrDefault(district, List.of());
+    }
+
+    // 구별 활성 경로당 수 - 스냅샷 교체 시점에 함께 갱신된다
+    public Map<String, Integer> countByDistrict() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        byDistrict.forEach((district, list) -> counts.put(district, list.size()));
+        return counts;
+    }
+
+    private static LocationSnapshot assemble(long version, List<Location> copies) {
+        Map<Long, Location> byId = new LinkedHashMap<>();
+        copies.stream()
+                .sorted(Comparator.comparing(Location::getId))
+                .forEach(loc -> byId.put(loc.getId(), loc));
+
+        // 저장된 district 값으로 분류 (주소 문자열 검사 없음)
+        Map<String, List<Location>> grouped = new LinkedHashMap<>();
+        for (String district : SEONGNAM_ARR) {
+            grouped.put(district, new ArrayList<>());
+        }
+        for (Location loc : byId.values()) {
+            if (loc.getDistrict() != null) {
+                grouped.computeIfAbsent(loc.getDistrict(), d -> new ArrayList<>()).add(loc);
+            }
+        }
+        Map<String, List<Location>> byDistrict = new LinkedHashMap<>();
+        grouped.forEach((district, list) -> byDistrict.put(district, List.copyOf(list)));
+
+        return new LocationSnapshot(version, Instant.now(),
+                List.copyOf(byId.values()), Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(byDistrict));
+    }
+
+    // 영속성 컨텍스트와 공유되지 않도록 스냅샷 전용 사본을 만든다
+    private static Location detachedCopy(Location source, int status) {
+        Location copy = new Location(source.getLocationNumber(), source.getLocationName(),
+                source.getLocationAddress(), source.getLatitude(), source.getLongitude(), status);
+        copy.setId(source.getId());
+        copy.setDistrict(source.getDistrict());
+        copy.setAddressHash(source.getAddressHash());
+        return copy;
+    }
+}
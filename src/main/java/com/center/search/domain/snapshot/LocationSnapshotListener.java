@@ -0,0 +1,16 @@
+package com.center.search.domain.snapshot;
+
+import com.center.search.domain.entity.Location;
+
+/**
+ * 스냅샷에서 파생되는 메모리 인덱스용 콜백.
+ * 스냅샷 교체와 같은 락 안에서 순서대로 호출되므로 구현체는 별도 동기화 없이 증분 갱신하면 된다.
+ */
+public interface LocationSnapshotListener {
+
+    // DB 전체 재적재 - 인덱스를 처음부터 다시 만든다
+    void onSnapshotReloaded(LocationSnapshot snapshot);
+
+    // 한 건 변경 - previous 는 이전 스냅샷의 값(없었으면 null), current 는 새 값(비활성화면 null)
+    void onLocationChanged(LocationSnapshot snapshot, Location previous, Location current);
+}
@@ -0,0 +1,74 @@
+/* Marker Codec - /api/v1/location 의 압축 바이너리 응답(application/x-center-markers) 디코더
+ * 형식은 MarkerBinaryCodec.java 참고
+ *
+ *   const buf = await fetch('/api/v1/location', { headers: { Accept: MarkerCodec.MEDIA_TYPE } })
+ *       .then(r => r.arrayBuffer());
+ *   const markers = MarkerCodec.decode(buf); // [{ id, name, tel, address, lat, lng }, ...]
+ */
+(function (global) {
+  const MEDIA_TYPE = 'application/x-center-markers';
+  const FIXED_POINT = 1e6;
+
+  function decode(buffer) {
+    const bytes = new Uint8Array(buffer);
+    let pos = 0;
+
+    // 32비트를 넘는 값도 안전하도록 비트 연산 대신 곱셈 사용
+    function varint() {
+      let result = 0;
+      let scale = 1;
+      let b;
+      do {
+        b = bytes[pos++];
+        result += (b & 0x7f) * scale;
+        scale *= 128;
+      } while (b & 0x80);
+      return result;
+    }
+
+    function zigzag() {
+      const n = varint();
+      return n % 2 === 0 ? n / 2 : -(n + 1) / 2;
+    }
+
+    const magic = String.fromCharCode(bytes[0], bytes[1], bytes[2], bytes[3]);
+    if (magic !== 'CMK1') {
+      throw new Error('지원하지 않는 마커 형식: ' + magic);
+    }
+    pos = 4;
+
+    const count = varint();
+    const stringCount = varint();
+    const decoder = new TextDecoder('utf-8');
+    const strings = new Array(stringCount);
+    for (let i = 0; i < stringCount; i++) {
+      const len = varint();
+      strings[i] = decoder.decode(bytes.subarray(pos, pos + len));
+      pos += len;
+    }
+
+    const markers = new Array(count);
+    let prev = 0;
+    for (let i = 0; i < count; i++) {
+      prev += zigzag();
+      markers[i] = { id: prev, name: '', tel: '', address: '', lat: 0, lng: 0 };
+    }
+    prev = 0;
+    for (let i = 0; i < count; i++) {
+      prev += zigzag();
+      markers[i].lat = prev / FIXED_POINT;
+    }
+    prev = 0;
+    for (let i = 0; i < count; i++) {
+      prev += zigzag();
+      markers[i].lng = prev / FIXED_POINT;
+    }
+    for (let i = 0; i < count; i++) markers[i].name = strings[varint()];
+    for (let i = 0; i < count; i++) markers[i].tel = strings[varint()];
+    for (let i = 0; i < count; i++) markers[i].address = strings[varint()];
+
+    return markers;
+  }
+
+  global.MarkerCodec = { MEDIA_TYPE, decode };
+})(window);
@@ -15,13 +15,14 @@ class SearchBar {
             recentContainer: '#recentSearches',
             recentList: '#recentList',
             clearRecentBtn: '#clearRecentBtn',
-            debounceDelay: 300,
+            debounceDelay: 150,
             maxRecentItems: 5,
             minSearchLength: 1,
             maxResults: 10,
             storageKey: 'centerSearchHistory',
             // API 설정
             apiUrl: '/api/v1/location/search',
+            suggestUrl: '/api/v1/location/suggest',
             apiTimeout: 5000,
             enableFallback: true,
             ...options
@@ -197,6 +198,11 @@ class SearchBar {
       검색 실행
     *****************************/
     async performSearch(query) {
+        // 초성만 입력한 경우 (예: "ㅂㄷ") - 자동완성 API 사용
+        if (/^[ㄱ-ㅎ\s]+$/.test(query)) {
+            return this.performSuggest(query);
+        }
+
         try {
             // AbortController로 타임아웃 처리
             const controller = new AbortController();
@@ -219,9 +225,11 @@ class SearchBar {
             }
 
             const data = await response.json();
+            // 응답은 { markers, nextCursor } - 검색바는 첫 페이지(maxResults 개)만 쓴다
+            const items = Array.isArray(data) ? data : (data.markers || []);
             
             // API 응답 데이터를 프론트엔드 형식으로 변환
-            const results = data.map(item => ({
+            const results = items.map(item => ({
                 id: item.id || item.locationId,
                 name: item.name || item.locationName?.locationName || item.locationName,
                 address: item.address || item.locationAddress?.address || item.locationAddress,
@@ -245,11 +253,54 @@ class SearchBar {
         }
     }
 
+    /****************************
+      자동완성 (초성 검색)
+    *****************************/
+    async performSuggest(query) {
+        const controller = new AbortController();
+        const timeoutId = setTimeout(() => controller.abort(), this.options.apiTimeout);
+
+        try {
+            const response = await fetch(`${this.options.suggestUrl}?q=${encodeURIComponent(query)}&limit=${this.options.maxResults}`, {
+                method: 'GET',
+                headers: { 'Accept': 'application/json' },
+                signal: controller.signal
+            });
+
+            if (!response.ok) {
+                throw new Error(`HTTP error! status: ${response.status}`);
+            }
+
+            const data = await response.json();
+
+            // 자동완성 응답은 id/이름뿐이므로 주소·좌표는 페이지에 로드된 마커 데이터에서 채운다
+            const byId = new Map((window.locations || []).map(loc => [loc.id, loc]));
+            return data.map(item => {
+                const loc = byId.get(item.id) || {};
+                return {
+                    id: item.id,
+                    name: item.name,
+                    address: loc.address || '',
+                    tel: loc.tel || '',
+                    lat: loc.lat,
+                    lng: loc.lng
+                };
+            });
+        } catch (error) {
+            console.error('자동완성 API 호출 실패:', error);
+            return [];
+        } finally {
+            clearTimeout(timeoutId);
+        }
+    }
+
     /****************************
       클라이언트 사이드 검색 (폴백용)
     *****************************/
     performClientSideSearch(query) {
-        const results = this.locations.filter(location => {
+        // 마커 데이터는 페이지 로드 후 비동기로 채워지므로 호출 시점의 전역 값을 본다
+        const source = window.locations || this.locations;
+        const results = source.filter(location => {
             const searchText = `${location.name} ${location.address}`.toLowerCase();
             const queryLower = query.toLowerCase();
             
@@ -0,0 +1,122 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.repo.LocationRepo;
+import com.center.search.domain.search.LocationSearchStrategy;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import com.center.search.support.StubSnapshotService;
+import com.center.search.support.TestLocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * test 프로파일(H2, location.search.strategy=fulltext) 에서는 FULLTEXT 인덱스가 없어 LIKE 순위 쿼리로 검색한다.
+ * 같은 데이터로 만든 메모리 색인(LocationSearchIndex) 과 순위/순서/커서 결과가 같은지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FulltextLocationSearchTest {
+
+    private static final List<String> KEYWORDS = List.of("정자", "경로당", "분당구", "수내로 5", "느티마을 정자", "100%", "판교");
+
+    @Autowired
+    private LocationRepo locationRepo;
+
+    @Autowired
+    private LocationSearchStrategy fulltextSearch;
+
+    private LocationSearchIndex memoryIndex;
+    private List<Location> saved;
+
+    @BeforeEach
+    void setUp() {
+        locationRepo.deleteAll();
+        saved = locationRepo.saveAll(List.of(
+                TestLocations.location(null, "정자동경로당", "경기도 성남시 분당구 정자일로 100"),
+                TestLocations.location(null, "정자1동경로당", "경기도 성남시 분당구 정자일로 120"),
+                TestLocations.location(null, "느티마을 정자경로당", "경기도 성남시 분당구 느티로 10"),
+                TestLocations.location(null, "수내경로당", "경기도 성남시 분당구 수내로 5 (정자동)"),
+                TestLocations.location(null, "서현경로당", "경기도 성남시 분당구 서현로 180"),
+                TestLocations.location(null, "정자동경로당", "경기도 성남시 분당구 정자로 7"),
+                TestLocations.location(null, "신흥100%경로당", "경기도 성남시 수정구 수정로 1")));
+
+        StubSnapshotService snapshotService = new StubSnapshotService(saved);
+        memoryIndex = new LocationSearchIndex(snapshotService);
+        memoryIndex.onSnapshotReloaded(snapshotService.getSnapshot());
+    }
+
+    @Test
+    void usesFulltextStrategyUnderTestProfile() {
+        assertInstanceOf(FulltextLocationSearch.class, fulltextSearch);
+    }
+
+    @Test
+    void likeFallbackMatchesMemoryTiersAndOrder() {
+        for (String keyword : KEYWORDS) {
+            SearchPage expected = memoryIndex.search(keyword, null, 100);
+            SearchPage actual = fulltextSearch.search(keyword, null, 100);
+
+            assertEquals(expected.positions(), actual.positions(), keyword);
+            assertEquals(ids(expected), ids(actual), keyword);
+        }
+        assertFalse(fulltextSearch.search("정자", null, 100).locations().isEmpty());
+    }
+
+    @Test
+    void likeFallbackCursorMatchesMemoryCursor() {
+        for (String keyword : KEYWORDS) {
+            assertEquals(pageThrough(memoryIndex, keyword), pageThrough(fulltextSearch, keyword), keyword);
+        }
+    }
+
+    @Test
+    void escapesLikeWildcards() {
+        assertEquals(List.of("신흥100%경로당"), names(fulltextSearch.search("100%", null, 10)));
+        assertTrue(fulltextSearch.search("_", null, 10).locations().isEmpty());
+        assertEquals(1, fulltextSearch.search("%", null, 10).locations().size());
+    }
+
+    @Test
+    void skipsInactiveLocations() {
+        Location inactive = saved.get(0);
+        locationRepo.updateLocationStatus(Location.STATUS_INACTIVE, inactive.getId());
+
+        List<Long> found = ids(fulltextSearch.search("정자동경로당", null, 10));
+
+        assertEquals(List.of(saved.get(5).getId()), found);
+    }
+
+    // limit 2 로 끝까지 넘기며 모은 위치
+    private static List<SearchPosition> pageThrough(LocationSearchStrategy strategy, String keyword) {
+        List<SearchPosition> all = new ArrayList<>();
+        SearchPosition after = null;
+        while (true) {
+            SearchPage page = strategy.search(keyword, after, 2);
+            if (page.positions().isEmpty()) {
+                return all;
+            }
+            all.addAll(page.positions());
+            after = page.positions().get(page.positions().size() - 1);
+        }
+    }
+
+    private static List<Long> ids(SearchPage page) {
+        return page.locations().stream().map(Location::getId).toList();
+    }
+
+    private static List<String> names(SearchPage page) {
+        return page.locations().stream().map(loc -> loc.getLocationName().getLocationName()).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.support.StubSnapshotService;
+import com.center.search.support.TestLocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationFuzzyIndexTest {
+
+    static final List<Location> LOCATIONS = List.of(
+            TestLocations.location(1L, "정자동경로당", "경기도 성남시 분당구 정자일로 100"),
+            TestLocations.location(2L, "서현동경로당", "경기도 성남시 분당구 서현로 180"),
+            TestLocations.location(3L, "이매동 한신경로당", "경기도 성남시 분당구 이매로 3"));
+
+    private StubSnapshotService snapshotService;
+    private LocationFuzzyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new StubSnapshotService(LOCATIONS);
+        index = new LocationFuzzyIndex(snapshotService);
+        index.onSnapshotReloaded(snapshotService.getSnapshot());
+    }
+
+    @Test
+    void findsNameWithWrongVowel() {
+        // 졍 / 정 은 자모 하나(ㅕ / ㅓ) 차이
+        assertEquals(List.of(1L), ids(index.search("졍자동경로당", 10)));
+    }
+
+    @Test
+    void findsNameWithoutCommonSuffix() {
+        assertEquals(List.of(1L), ids(index.search("졍자동", 10)));
+    }
+
+    @Test
+    void findsNameWordInsideLongerName() {
+        // 받침 하나(ㄴ / ㅁ) 차이
+        assertEquals(List.of(3L), ids(index.search("한심경로당", 10)));
+    }
+
+    @Test
+    void ignoresQueriesTooShortForTypoTolerance() {
+        assertTrue(index.search("졍", 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+    }
+
+    @Test
+    void dropsIdsMissingFromSnapshot() {
+        // 트리에서 id 를 빼기 전이라도 스냅샷에서 빠진 경로당은 돌려주지 않는다
+        snapshotService.replace(List.of(TestLocations.location(2L, "서현동경로당", "경기도 성남시 분당구 서현로 180")));
+
+        assertTrue(index.search("졍자동경로당", 10).isEmpty());
+    }
+
+    @Test
+    void appliesIncrementalChanges() {
+        Location renamed = TestLocations.location(1L, "수진동경로당", "경기도 성남시 분당구 정자일로 100");
+        Location added = TestLocations.location(4L, "태평동경로당", "경기도 성남시 수정구 태평로 4");
+        index.onLocationChanged(snapshotService.getSnapshot(), LOCATIONS.get(0), renamed);
+        index.onLocationChanged(snapshotService.replace(List.of(renamed, LOCATIONS.get(1), LOCATIONS.get(2), added)),
+                null, added);
+
+        // 이전 이름의 키에서는 id 가 빠진다
+        assertTrue(index.search("졍자동경로당", 10).isEmpty());
+        assertEquals(List.of(1L), ids(index.search("수징동경로당", 10)));
+        assertEquals(List.of(4L), ids(index.search("태펑동", 10)));
+    }
+
+    @Test
+    void levenshteinCountsSingleEdits() {
+        assertEquals(0, LocationFuzzyIndex.levenshtein("ㄱㅏ", "ㄱㅏ"));
+        assertEquals(1, LocationFuzzyIndex.levenshtein("ㅈㅓㅇ", "ㅈㅕㅇ"));
+        assertEquals(3, LocationFuzzyIndex.levenshtein("kitten", "sitting"));
+        assertEquals(4, LocationFuzzyIndex.levenshtein("", "abcd"));
+    }
+
+    private static List<Long> ids(List<Location> locations) {
+        return locations.stream().map(Location::getId).toList();
+    }
+}
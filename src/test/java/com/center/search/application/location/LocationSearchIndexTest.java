@@ -0,0 +1,114 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import com.center.search.support.StubSnapshotService;
+import com.center.search.support.TestLocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.center.search.domain.search.LocationSearchStrategy.TIER_ADDRESS_CONTAINS;
+import static com.center.search.domain.search.LocationSearchStrategy.TIER_NAME_CONTAINS;
+import static com.center.search.domain.search.LocationSearchStrategy.TIER_NAME_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationSearchIndexTest {
+
+    static final List<Location> LOCATIONS = List.of(
+            TestLocations.location(1L, "정자동경로당", "경기도 성남시 분당구 정자일로 100"),
+            TestLocations.location(2L, "정자1동경로당", "경기도 성남시 분당구 정자일로 120"),
+            TestLocations.location(3L, "느티마을 정자경로당", "경기도 성남시 분당구 느티로 10"),
+            TestLocations.location(4L, "수내경로당", "경기도 성남시 분당구 수내로 5 (정자동)"),
+            TestLocations.location(5L, "서현경로당", "경기도 성남시 분당구 서현로 180"),
+            TestLocations.location(6L, "정자동경로당", "경기도 성남시 분당구 정자로 7"));
+
+    private StubSnapshotService snapshotService;
+    private LocationSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new StubSnapshotService(LOCATIONS);
+        index = new LocationSearchIndex(snapshotService);
+        index.onSnapshotReloaded(snapshotService.getSnapshot());
+    }
+
+    @Test
+    void ranksNamePrefixThenNameThenAddress() {
+        SearchPage page = index.search("정자", null, 10);
+
+        // 같은 순위 안에서는 이름, 같은 이름이면 id 순
+        assertEquals(List.of(2L, 1L, 6L, 3L, 4L), ids(page));
+        assertEquals(List.of(TIER_NAME_PREFIX, TIER_NAME_PREFIX, TIER_NAME_PREFIX, TIER_NAME_CONTAINS, TIER_ADDRESS_CONTAINS),
+                page.positions().stream().map(SearchPosition::tier).toList());
+    }
+
+    @Test
+    void matchesSubstringsLongerThanGramSize() {
+        assertEquals(List.of(5L), ids(index.search("서현로 180", null, 10)));
+        assertEquals(List.of(3L), ids(index.search("느티마을 정자", null, 10)));
+        assertTrue(index.search("정자일로 999", null, 10).locations().isEmpty());
+    }
+
+    @Test
+    void normalizesDecomposedHangulQuery() {
+        String decomposed = Normalizer.normalize("수내", Normalizer.Form.NFD);
+
+        assertEquals(List.of(4L), ids(index.search(decomposed, null, 10)));
+    }
+
+    @Test
+    void keysetPagesConcatenateToSinglePage() {
+        List<Long> all = ids(index.search("경로당", null, 100));
+
+        List<Long> paged = new ArrayList<>();
+        SearchPosition after = null;
+        while (true) {
+            SearchPage page = index.search("경로당", after, 2);
+            if (page.locations().isEmpty()) {
+                break;
+            }
+            paged.addAll(ids(page));
+            after = page.positions().get(page.positions().size() - 1);
+        }
+
+        assertEquals(6, all.size());
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void appliesIncrementalChanges() {
+        Location renamed = TestLocations.location(5L, "서현 정자경로당", "경기도 성남시 분당구 서현로 180");
+        index.onLocationChanged(snapshotService.getSnapshot(), LOCATIONS.get(4), renamed);
+        index.onLocationChanged(snapshotService.getSnapshot(), LOCATIONS.get(3), null);
+
+        assertEquals(List.of(2L, 1L, 6L, 3L, 5L), ids(index.search("정자", null, 10)));
+        assertTrue(index.search("서현경로당", null, 10).locations().isEmpty());
+        assertTrue(index.search("수내", null, 10).locations().isEmpty());
+    }
+
+    @Test
+    void searchAmongKeepsOnlyGivenIdsInRankOrder() {
+        SearchPage page = index.searchAmong("정자", Set.of(4L, 5L, 6L, 3L));
+
+        assertEquals(List.of(6L, 3L, 4L), ids(page));
+        assertTrue(index.searchAmong("정자", Set.of()).locations().isEmpty());
+        assertTrue(index.searchAmong("서현", Set.of(1L, 2L)).locations().isEmpty());
+    }
+
+    @Test
+    void emptyKeywordFindsNothing() {
+        assertTrue(index.search("  ", null, 10).locations().isEmpty());
+        assertTrue(index.search("정자", null, 0).locations().isEmpty());
+    }
+
+    static List<Long> ids(SearchPage page) {
+        return page.locations().stream().map(Location::getId).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.SuggestionDto;
+import com.center.search.domain.entity.Location;
+import com.center.search.support.StubSnapshotService;
+import com.center.search.support.TestLocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocationSuggestIndexTest {
+
+    static final List<Location> LOCATIONS = List.of(
+            TestLocations.location(1L, "분당노인정", "경기도 성남시 분당구 황새울로 1"),
+            TestLocations.location(2L, "수내경로당", "경기도 성남시 분당구 수내로 2"),
+            TestLocations.location(3L, "새마을 분당경로당", "경기도 성남시 수정구 수정로 3"),
+            TestLocations.location(4L, "중원경로당", "경기도 성남시 중원구 광명로 4"));
+
+    private StubSnapshotService snapshotService;
+    private LocationSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new StubSnapshotService(LOCATIONS);
+        index = new LocationSuggestIndex(snapshotService);
+        index.onSnapshotReloaded(snapshotService.getSnapshot());
+    }
+
+    @Test
+    void ranksWholeNameThenNameWordThenAddressWord() {
+        assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("분당", 10)));
+    }
+
+    @Test
+    void matchesSyllableStillBeingTyped() {
+        // "분다" 는 "분당" 을 치는 도중 - 자모로 풀면 앞부분이 같다
+        assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("분다", 10)));
+        assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("분ㄷ", 10)));
+    }
+
+    @Test
+    void matchesChosungOnlyQuery() {
+        assertEquals(List.of(1L, 3L, 2L), ids(index.suggest("ㅂㄷ", 10)));
+        assertEquals(List.of(4L), ids(index.suggest("ㅈㅇㄱ", 10)));
+    }
+
+    @Test
+    void respectsLimitAndIgnoresBlankQuery() {
+        assertEquals(List.of(1L), ids(index.suggest("분당", 1)));
+        assertTrue(index.suggest(" ", 10).isEmpty());
+        assertTrue(index.suggest("판교", 10).isEmpty());
+    }
+
+    @Test
+    void appliesIncrementalChanges() {
+        Location renamed = TestLocations.location(4L, "분당중앙경로당", "경기도 성남시 중원구 광명로 4");
+        index.onLocationChanged(snapshotService.getSnapshot(), LOCATIONS.get(3), renamed);
+        index.onLocationChanged(snapshotService.getSnapshot(), LOCATIONS.get(1), null);
+
+        assertEquals(List.of(1L, 4L, 3L), ids(index.suggest("분당", 10)));
+        assertTrue(index.suggest("중원경", 10).isEmpty());
+        assertTrue(index.suggest("수내", 10).isEmpty());
+    }
+
+    private static List<Long> ids(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::id).toList();
+    }
+}
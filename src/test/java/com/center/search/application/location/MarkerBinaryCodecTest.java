@@ -0,0 +1,132 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.LocationMarkerDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarkerBinaryCodecTest {
+
+    @Test
+    void roundTripsMarkers() {
+        List<LocationMarkerDto> markers = List.of(
+                new LocationMarkerDto(7L, "정자동경로당", "031-700-0001", "경기도 성남시 분당구 정자일로 100", 37.366123, 127.108456),
+                // id 가 줄어드는 순서, 음수 좌표 차이도 zigzag 로 그대로 돌아와야 한다
+                new LocationMarkerDto(3L, "수내경로당", "031-700-0001", "경기도 성남시 분당구 수내로 2", 37.378001, 127.115002),
+                new LocationMarkerDto(100_000L, "남반구경로당", null, "어딘가", -33.868820, -151.209296));
+
+        List<LocationMarkerDto> decoded = decode(MarkerBinaryCodec.encode(markers));
+
+        assertEquals(markers.size(), decoded.size());
+        for (int i = 0; i < markers.size(); i++) {
+            LocationMarkerDto expected = markers.get(i);
+            LocationMarkerDto actual = decoded.get(i);
+            assertEquals(expected.id(), actual.id());
+            assertEquals(expected.name(), actual.name());
+            assertEquals(expected.tel() == null ? "" : expected.tel(), actual.tel());
+            assertEquals(expected.address(), actual.address());
+            assertEquals(expected.lat(), actual.lat(), 1e-6);
+            assertEquals(expected.lng(), actual.lng(), 1e-6);
+        }
+    }
+
+    @Test
+    void sharesRepeatedStrings() {
+        List<LocationMarkerDto> markers = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            markers.add(new LocationMarkerDto(id, "경로당", "031-700-0000", "경기도 성남시 중원구", 37.43, 127.17));
+        }
+
+        Reader reader = new Reader(MarkerBinaryCodec.encode(markers));
+        reader.magic();
+        assertEquals(50, reader.varint());
+        assertEquals(3, reader.varint(), "문자열 표에는 서로 다른 문자열만");
+    }
+
+    @Test
+    void encodesEmptyList() {
+        Reader reader = new Reader(MarkerBinaryCodec.encode(List.of()));
+        reader.magic();
+        assertEquals(0, reader.varint());
+        assertEquals(0, reader.varint());
+        assertEquals(reader.bytes.length, reader.offset);
+    }
+
+    // static/center-skin/marker-codec.js 와 같은 순서로 읽는다
+    private static List<LocationMarkerDto> decode(byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        reader.magic();
+        int count = (int) reader.varint();
+        int stringCount = (int) reader.varint();
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = (int) reader.varint();
+            strings[i] = new String(bytes, reader.offset, length, StandardCharsets.UTF_8);
+            reader.offset += length;
+        }
+
+        long[] ids = reader.deltas(count);
+        long[] lats = reader.deltas(count);
+        long[] lngs = reader.deltas(count);
+        int[][] texts = new int[3][count];
+        for (int[] column : texts) {
+            for (int i = 0; i < count; i++) {
+                column[i] = (int) reader.varint();
+            }
+        }
+
+        List<LocationMarkerDto> markers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            markers.add(new LocationMarkerDto(ids[i], strings[texts[0][i]], strings[texts[1][i]], strings[texts[2][i]],
+                    lats[i] / 1_000_000.0, lngs[i] / 1_000_000.0));
+        }
+        return markers;
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int offset;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void magic() {
+            byte[] magic = new byte[4];
+            System.arraycopy(bytes, 0, magic, 0, 4);
+            assertArrayEquals("CMK1".getBytes(StandardCharsets.US_ASCII), magic);
+            offset = 4;
+        }
+
+        long varint() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                int b = bytes[offset++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        // zigzag 차이값을 누적해 원래 값으로
+        long[] deltas(int count) {
+            long[] values = new long[count];
+            long prev = 0;
+            for (int i = 0; i < count; i++) {
+                long raw = varint();
+                prev += (raw >>> 1) ^ -(raw & 1);
+                values[i] = prev;
+            }
+            return values;
+        }
+    }
+}
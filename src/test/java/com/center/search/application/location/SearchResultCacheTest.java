@@ -0,0 +1,107 @@
+package com.center.search.application.location;
+
+import com.center.search.domain.dto.SearchCacheStats;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.search.SearchPage;
+import com.center.search.domain.search.SearchPosition;
+import com.center.search.support.StubSnapshotService;
+import com.center.search.support.TestLocations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchResultCacheTest {
+
+    private static final List<Location> LOCATIONS = List.of(
+            TestLocations.location(1L, "정자동경로당", "경기도 성남시 분당구 정자일로 100"),
+            TestLocations.location(2L, "수내경로당", "경기도 성남시 분당구 수내로 2"));
+
+    private StubSnapshotService snapshotService;
+    private SearchResultCache cache;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new StubSnapshotService(LOCATIONS);
+        cache = new SearchResultCache(snapshotService, 2);
+        searches = new AtomicInteger();
+    }
+
+    @Test
+    void servesRepeatedSearchFromCache() {
+        SearchPage first = cache.get("정자", null, 10, search(1L));
+        SearchPage second = cache.get(" 정자 ", null, 10, search(1L));
+
+        assertEquals(1, searches.get());
+        assertEquals(first.positions(), second.positions());
+        assertEquals(List.of(1L), second.locations().stream().map(Location::getId).toList());
+        SearchCacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    void cachesEmptyResults() {
+        cache.get("판교", null, 10, search());
+        cache.get("판교", null, 10, search());
+
+        assertEquals(1, searches.get());
+        assertEquals(1, cache.stats().negativeHits());
+    }
+
+    @Test
+    void keysIncludeCursorAndLimit() {
+        cache.get("경로당", null, 10, search(1L, 2L));
+        cache.get("경로당", null, 1, search(1L));
+        cache.get("경로당", new SearchPosition(1, "정자동경로당", 1L), 1, search(2L));
+
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    void invalidatesWhenSnapshotVersionChanges() {
+        cache.get("정자", null, 10, search(1L));
+        snapshotService.replace(LOCATIONS);
+        cache.get("정자", null, 10, search(1L));
+
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        cache.get("정자", null, 10, search(1L));
+        cache.get("수내", null, 10, search(2L));
+        cache.get("정자", null, 10, search(1L)); // 정자를 최근으로
+        cache.get("서현", null, 10, search());   // 가장 오래 안 쓴 수내가 밀려난다
+        assertEquals(3, searches.get());
+
+        cache.get("정자", null, 10, search(1L));
+        assertEquals(3, searches.get());
+        cache.get("수내", null, 10, search(2L));
+        assertEquals(4, searches.get());
+        assertTrue(cache.stats().evictions() >= 1);
+    }
+
+    // 호출 횟수를 세고, 스냅샷의 경로당으로 결과 페이지를 만든다
+    private Supplier<SearchPage> search(long... ids) {
+        return () -> {
+            searches.incrementAndGet();
+            List<Location> locations = new ArrayList<>();
+            List<SearchPosition> positions = new ArrayList<>();
+            for (long id : ids) {
+                Location loc = snapshotService.getSnapshot().byId().get(id);
+                locations.add(loc);
+                positions.add(new SearchPosition(1, loc.getLocationName().getLocationName(), id));
+            }
+            return new SearchPage(locations, positions);
+        };
+    }
+}
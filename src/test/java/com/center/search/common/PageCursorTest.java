@@ -0,0 +1,52 @@
+package com.center.search.common;
+
+import com.center.search.domain.search.SearchPosition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void numericCursorRoundTrips() {
+        for (long position : new long[]{1L, 42L, 1_000_000_007L, Long.MAX_VALUE}) {
+            String cursor = PageCursor.encode(position);
+            assertFalse(cursor.contains("="), "패딩 없는 URL-safe Base64");
+            assertEquals(position, PageCursor.decode(cursor));
+        }
+    }
+
+    @Test
+    void missingCursorStartsFromBeginning() {
+        assertEquals(0L, PageCursor.decode(null));
+        assertEquals(0L, PageCursor.decode(" "));
+        assertNull(PageCursor.decodeText(null));
+        assertNull(PageCursor.decodeText(""));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("!!!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(PageCursor.encodeText("abc")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeText("%%%"));
+    }
+
+    @Test
+    void searchPositionSurvivesTextCursor() {
+        // 이름에 구분자(:)가 들어 있어도 마지막 칸이라 그대로 돌아와야 한다
+        SearchPosition position = new SearchPosition(2, "정자동: 느티마을 경로당", 1234L);
+
+        String cursor = PageCursor.encodeText(position.serialize());
+
+        assertEquals(position, SearchPosition.parse(PageCursor.decodeText(cursor)));
+    }
+
+    @Test
+    void malformedSearchPositionIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SearchPosition.parse("2:abc"));
+        assertThrows(IllegalArgumentException.class, () -> SearchPosition.parse("x:1:name"));
+    }
+}
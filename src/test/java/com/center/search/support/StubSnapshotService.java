@@ -0,0 +1,35 @@
+package com.center.search.support;
+
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.service.LocationSnapshotService;
+import com.center.search.domain.snapshot.LocationSnapshot;
+
+import java.util.List;
+
+/**
+ * DB 없이 정해 둔 목록을 스냅샷으로 돌려준다. replace 로 목록을 바꾸면 버전이 하나 오른다.
+ * 리스너 호출은 하지 않으므로 인덱스에는 테스트가 직접 onSnapshotReloaded 를 부른다.
+ */
+public class StubSnapshotService implements LocationSnapshotService {
+
+    private LocationSnapshot snapshot;
+
+    public StubSnapshotService(List<Location> locations) {
+        this.snapshot = LocationSnapshot.of(1, locations);
+    }
+
+    public LocationSnapshot replace(List<Location> locations) {
+        snapshot = LocationSnapshot.of(snapshot.version() + 1, locations);
+        return snapshot;
+    }
+
+    @Override
+    public LocationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public LocationSnapshot reload() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,33 @@
+package com.center.search.support;
+
+import com.center.search.common.AddressNormalizer;
+import com.center.search.common.SeongnamArea;
+import com.center.search.domain.entity.Location;
+import com.center.search.domain.entity.LocationAddress;
+import com.center.search.domain.entity.LocationLatitude;
+import com.center.search.domain.entity.LocationLongitude;
+import com.center.search.domain.entity.LocationName;
+import com.center.search.domain.entity.LocationNumber;
+
+/**
+ * 테스트용 경로당 엔티티. id 가 null 이면 저장할 때 DB 가 채운다.
+ */
+public final class TestLocations {
+
+    private TestLocations() {
+    }
+
+    public static Location location(Long id, String name, String address) {
+        return location(id, name, address, 37.38, 127.12);
+    }
+
+    public static Location location(Long id, String name, String address, double lat, double lng) {
+        Location loc = new Location(new LocationNumber("031-700-0000"), new LocationName(name),
+                new LocationAddress(address), new LocationLatitude(lat), new LocationLongitude(lng),
+                Location.STATUS_ACTIVE);
+        loc.setId(id);
+        loc.setDistrict(SeongnamArea.resolveDistrict(address));
+        loc.setAddressHash(AddressNormalizer.hash(address));
+        return loc;
+    }
+}